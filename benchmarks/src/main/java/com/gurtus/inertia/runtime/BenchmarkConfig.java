@@ -0,0 +1,27 @@
+package com.gurtus.inertia.runtime;
+
+import java.util.Map;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Creates the configuration of benchmarked beans outside of Quarkus.
+ */
+final class BenchmarkConfig {
+
+    private BenchmarkConfig() {
+    }
+
+    /**
+     * Create the Inertia configuration with the given {@code quarkus.inertia.*} properties on top of the defaults.
+     */
+    static InertiaConfig inertiaConfig(Map<String, String> properties) {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(InertiaConfig.class)
+                .withSources(new PropertiesConfigSource(properties, "benchmark", 500))
+                .build();
+        return config.getConfigMapping(InertiaConfig.class);
+    }
+}
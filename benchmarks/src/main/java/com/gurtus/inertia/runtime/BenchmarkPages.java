@@ -0,0 +1,43 @@
+package com.gurtus.inertia.runtime;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Page fixtures shared by the benchmarks, shaped like a typical list page.
+ */
+final class BenchmarkPages {
+
+    private BenchmarkPages() {
+    }
+
+    /**
+     * Create a page whose {@code users} prop holds the given number of rows.
+     */
+    static InertiaPage listPage(int rows) {
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("users", rows(rows));
+        props.put("filters", Map.of("search", "", "role", "admin"));
+        props.put("total", rows);
+
+        InertiaPage page = new InertiaPage("Users/Index", props, "/users", "1");
+        page.setMergeProps(List.of("users"));
+        return page;
+    }
+
+    static List<Map<String, Object>> rows(int count) {
+        List<Map<String, Object>> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("name", "User " + i);
+            row.put("email", "user" + i + "@example.com");
+            row.put("createdAt", "2024-01-01T00:00:00Z");
+            row.put("roles", List.of("user", "editor"));
+            rows.add(row);
+        }
+        return rows;
+    }
+}
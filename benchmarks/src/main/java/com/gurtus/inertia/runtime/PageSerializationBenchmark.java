@@ -0,0 +1,66 @@
+package com.gurtus.inertia.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Serialization of the page object of Inertia (XHR) responses: the former String path,
+ * the byte array path of {@code stream-json=false} and the streaming path of {@code stream-json=true}.
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({ "100", "10000" })
+    int rows;
+
+    private ObjectMapper objectMapper;
+    private InertiaPageWriter pageWriter;
+    private InertiaPage page;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper();
+        pageWriter = new InertiaPageWriter();
+        pageWriter.objectMapper = objectMapper;
+        pageWriter.init();
+        page = BenchmarkPages.listPage(rows);
+    }
+
+    @Benchmark
+    public byte[] string() throws IOException {
+        // The String is encoded again when the response is written
+        return objectMapper.writeValueAsString(page).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] bytes() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public long streaming() throws IOException {
+        return pageWriter.write(page, OutputStream.nullOutputStream());
+    }
+}
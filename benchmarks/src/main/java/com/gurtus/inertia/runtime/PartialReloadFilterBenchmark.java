@@ -0,0 +1,98 @@
+package com.gurtus.inertia.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filtering the props of a partial reload against the {@code X-Inertia-Partial-Data} keys:
+ * the former prefix lists with {@code List.contains} and the {@link InertiaPropKeySet} trie,
+ * compiled once per request as the renderer does.
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartialReloadFilterBenchmark {
+
+    @Param({ "20", "200" })
+    int props;
+
+    @Param({ "2", "20" })
+    int requested;
+
+    private List<String> keys;
+    private List<String> partialData;
+
+    @Setup
+    public void setup() {
+        keys = new ArrayList<>(props);
+        for (int i = 0; i < props; i++) {
+            keys.add("section" + (i % 10) + ".prop" + i);
+        }
+
+        partialData = new ArrayList<>(requested);
+        for (int i = 0; i < requested; i++) {
+            // Half of the keys request a whole section, half a single prop
+            partialData.add(i % 2 == 0 ? "section" + i : "section" + (i % 10) + ".prop" + i);
+        }
+    }
+
+    @Benchmark
+    public int prefixList() {
+        int included = 0;
+        for (String key : keys) {
+            List<String> keyPrefixes = generateKeyPrefixes(key);
+            if (keyPrefixes.stream().anyMatch(partialData::contains)) {
+                included++;
+            }
+        }
+        return included;
+    }
+
+    @Benchmark
+    public int keySet() {
+        InertiaPropKeySet keySet = InertiaPropKeySet.of(partialData);
+        int included = 0;
+        for (String key : keys) {
+            if (keySet.containsKeyOrPrefix(key)) {
+                included++;
+            }
+        }
+        return included;
+    }
+
+    /**
+     * The former implementation, kept as the baseline.
+     */
+    private static List<String> generateKeyPrefixes(String key) {
+        List<String> prefixes = new ArrayList<>();
+        String[] parts = key.split("\\.");
+
+        for (int i = 0; i < parts.length; i++) {
+            StringBuilder prefix = new StringBuilder();
+            for (int j = 0; j <= i; j++) {
+                if (j > 0) prefix.append(".");
+                prefix.append(parts[j]);
+            }
+            prefixes.add(prefix.toString());
+        }
+
+        return prefixes;
+    }
+}
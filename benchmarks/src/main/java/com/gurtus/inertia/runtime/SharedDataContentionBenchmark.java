@@ -0,0 +1,80 @@
+package com.gurtus.inertia.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Many concurrent renders evaluating the registered shared data: the former list guarded by
+ * a lock held during the evaluations and the copy-on-write list iterated without locking.
+ * The suppliers burn CPU to stand in for real work, e.g. reading the current user.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class SharedDataContentionBenchmark {
+
+    @Param({ "0", "1000" })
+    long supplierTokens;
+
+    private final List<InertiaSharedData> synchronizedList = new ArrayList<>();
+    private final List<InertiaSharedData> copyOnWriteList = new CopyOnWriteArrayList<>();
+
+    @Setup
+    public void setup() {
+        List<InertiaSharedData> registered = new ArrayList<>();
+        registered.add(new InertiaSharedData(Map.of("appName", "Benchmark")));
+        registered.add(new InertiaSharedData(() -> {
+            Blackhole.consumeCPU(supplierTokens);
+            return Map.of("user", Map.of("id", 1, "name", "Ada"));
+        }));
+        registered.add(new InertiaSharedData(controllerContext -> {
+            Blackhole.consumeCPU(supplierTokens);
+            return Map.of("flash", "Saved");
+        }));
+
+        synchronizedList.addAll(registered);
+        copyOnWriteList.addAll(registered);
+    }
+
+    @Benchmark
+    public Map<String, Object> synchronizedList() {
+        Map<String, Object> merged = new HashMap<>();
+        synchronized (synchronizedList) {
+            for (InertiaSharedData sharedData : synchronizedList) {
+                merged.putAll(sharedData.evaluate(null, null));
+            }
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public Map<String, Object> copyOnWriteList() {
+        Map<String, Object> merged = new HashMap<>();
+        for (InertiaSharedData sharedData : copyOnWriteList) {
+            merged.putAll(sharedData.evaluate(null, null));
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,94 @@
+package com.gurtus.inertia.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vertx.core.Vertx;
+
+/**
+ * Latency of a render by the in-process GraalJS engine and by the HTTP engine, both rendering the
+ * fixture bundle {@code ssr/ssr.mjs}. The HTTP engine needs the fixture server running first:
+ * {@code node benchmarks/src/main/resources/ssr/server.mjs}, or another URL set with
+ * {@code -Dinertia.benchmark.ssr-url}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SsrEngineBenchmark {
+
+    @Param({ "graaljs", "http" })
+    String engine;
+
+    @Param({ "10", "1000" })
+    int rows;
+
+    private Vertx vertx;
+    private InertiaSSREngine ssrEngine;
+    private byte[] pageJson;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        pageJson = objectMapper.writeValueAsBytes(BenchmarkPages.listPage(rows));
+
+        if ("graaljs".equals(engine)) {
+            // The engine reads the bundle from the file system
+            Path bundle = Files.createTempFile("inertia-ssr", ".mjs");
+            bundle.toFile().deleteOnExit();
+            try (InputStream input = SsrEngineBenchmark.class.getResourceAsStream("/ssr/ssr.mjs")) {
+                Files.copy(input, bundle, StandardCopyOption.REPLACE_EXISTING);
+            }
+            ssrEngine = new InertiaGraalJsSSREngine(bundle.toString(), 1, 5000);
+        } else {
+            vertx = Vertx.vertx();
+            InertiaConfig config = BenchmarkConfig.inertiaConfig(Map.of("quarkus.inertia.ssr-url",
+                    System.getProperty("inertia.benchmark.ssr-url", "http://127.0.0.1:13714")));
+            ssrEngine = new InertiaHttpSSREngine(vertx, config, objectMapper, new InertiaMetrics());
+            if (!ssrEngine.isAvailable().await().atMost(Duration.ofSeconds(5))) {
+                throw new IllegalStateException("The fixture SSR server is not running, start it with "
+                        + "node benchmarks/src/main/resources/ssr/server.mjs");
+            }
+        }
+
+        if (!render().isSuccess()) {
+            throw new IllegalStateException("The fixture bundle failed to render");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ssrEngine.close();
+        if (vertx != null) {
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+        }
+    }
+
+    @Benchmark
+    public InertiaSSRService.SSRResponse render() {
+        return ssrEngine.render(pageJson).await().atMost(Duration.ofSeconds(10));
+    }
+}
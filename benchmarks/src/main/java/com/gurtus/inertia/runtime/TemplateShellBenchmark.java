@@ -0,0 +1,124 @@
+package com.gurtus.inertia.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.HtmlEscaper;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolvers;
+import io.quarkus.qute.Variant;
+
+/**
+ * Rendering the root template of a first page load with SSR output: Qute per request,
+ * as done without {@code prerender-template}, and the pre-rendered shell, as a byte array or streamed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateShellBenchmark {
+
+    private static final String ROOT_TEMPLATE = """
+            <!DOCTYPE html>
+            <html lang="en">
+            <head>
+                <meta charset="UTF-8">
+                <meta name="viewport" content="width=device-width, initial-scale=1.0">
+                <link rel="stylesheet" href="/assets/app.css">
+                {#if ssrHead}{ssrHead.raw}{/if}
+            </head>
+            <body>
+                {#if ssrBody}{ssrBody.raw}{#else}<div id="app" data-page="{pageJson}"></div>{/if}
+                <script type="module" src="/assets/app.js"></script>
+            </body>
+            </html>
+            """;
+
+    @Param({ "10", "1000" })
+    int rows;
+
+    private Template template;
+    private InertiaTemplateShell shell;
+    private String pageJson;
+    private byte[] pageJsonBytes;
+    private String ssrHead;
+    private String ssrBody;
+    private byte[] ssrHeadBytes;
+    private byte[] ssrBodyBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        // Configured like the Quarkus engine for HTML templates
+        Engine engine = Engine.builder()
+                .addDefaults()
+                .addValueResolver(ValueResolvers.rawResolver())
+                .addResultMapper(new HtmlEscaper(List.of(Variant.TEXT_HTML)))
+                .build();
+        template = engine.parse(ROOT_TEMPLATE, Variant.forContentType(Variant.TEXT_HTML));
+        if (!InertiaTemplateShells.isShellTemplate(template)) {
+            throw new IllegalStateException("The root template cannot be pre-rendered");
+        }
+
+        String nonce = "benchmark";
+        shell = InertiaTemplateShell.parse(template.data("isDevelopment", false)
+                .data("pageJson", InertiaTemplateShell.sentinel(InertiaTemplateShell.Slot.PAGE_JSON, nonce))
+                .data("ssrHead", InertiaTemplateShell.sentinel(InertiaTemplateShell.Slot.SSR_HEAD, nonce))
+                .data("ssrBody", InertiaTemplateShell.sentinel(InertiaTemplateShell.Slot.SSR_BODY, nonce))
+                .render(), nonce);
+
+        pageJsonBytes = new ObjectMapper().writeValueAsBytes(BenchmarkPages.listPage(rows));
+        pageJson = new String(pageJsonBytes, StandardCharsets.UTF_8);
+        ssrHead = "<title>Users</title><meta name=\"description\" content=\"Users\">";
+        StringBuilder body = new StringBuilder("<div id=\"app\" data-page=\"").append(pageJson.replace("\"", "&quot;"))
+                .append("\"><table>");
+        for (int i = 0; i < rows; i++) {
+            body.append("<tr><td>").append(i).append("</td><td>User ").append(i).append("</td></tr>");
+        }
+        ssrBody = body.append("</table></div>").toString();
+        ssrHeadBytes = ssrHead.getBytes(StandardCharsets.UTF_8);
+        ssrBodyBytes = ssrBody.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] qute() {
+        // The rendered String is encoded again when the response is written
+        return template.data("isDevelopment", false)
+                .data("pageJson", pageJson)
+                .data("ssrHead", ssrHead)
+                .data("ssrBody", ssrBody)
+                .render()
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] shell() {
+        return shell.render(pageJsonBytes, ssrHead, ssrBody);
+    }
+
+    @Benchmark
+    public OutputStream shellStreaming() throws IOException {
+        OutputStream output = OutputStream.nullOutputStream();
+        shell.write(output, pageJsonBytes, ssrHeadBytes, ssrBodyBytes);
+        return output;
+    }
+}
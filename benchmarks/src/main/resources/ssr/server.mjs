@@ -0,0 +1,29 @@
+// Fixture SSR server for SsrEngineBenchmark, serving ssr.mjs like the Inertia SSR server does.
+import http from 'node:http';
+import render from './ssr.mjs';
+
+const port = Number(process.env.PORT ?? 13714);
+
+http
+  .createServer((request, response) => {
+    if (request.method === 'GET' && request.url === '/health') {
+      response.writeHead(200, { 'Content-Type': 'application/json' });
+      response.end(JSON.stringify({ status: 'OK' }));
+      return;
+    }
+
+    if (request.method === 'POST' && request.url === '/render') {
+      const chunks = [];
+      request.on('data', (chunk) => chunks.push(chunk));
+      request.on('end', async () => {
+        const result = await render(JSON.parse(Buffer.concat(chunks).toString('utf8')));
+        response.writeHead(200, { 'Content-Type': 'application/json' });
+        response.end(JSON.stringify(result));
+      });
+      return;
+    }
+
+    response.writeHead(404);
+    response.end();
+  })
+  .listen(port, '127.0.0.1', () => console.log(`Fixture SSR server listening on port ${port}`));
@@ -0,0 +1,18 @@
+// Fixture SSR bundle: renders the users table of the benchmark page without a framework,
+// so both engines measure their own overhead on the same work.
+const ESCAPES = { '&': '&amp;', '<': '&lt;', '>': '&gt;', '"': '&quot;', "'": '&#39;' };
+
+const escape = (value) => String(value).replace(/[&<>"']/g, (character) => ESCAPES[character]);
+
+export function render(page) {
+  const rows = (page.props.users ?? [])
+    .map((user) => `<tr><td>${user.id}</td><td>${escape(user.name)}</td><td>${escape(user.email)}</td></tr>`)
+    .join('');
+
+  return {
+    head: [`<title>${escape(page.component)}</title>`],
+    body: `<div id="app" data-page="${escape(JSON.stringify(page))}"><table>${rows}</table></div>`,
+  };
+}
+
+export default render;
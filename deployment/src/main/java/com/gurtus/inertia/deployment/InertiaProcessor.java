@@ -1,22 +1,78 @@
 package com.gurtus.inertia.deployment;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.gurtus.inertia.runtime.InertiaBuildTimeConfig;
 import com.gurtus.inertia.runtime.InertiaConfig;
+import com.gurtus.inertia.runtime.Inertia;
 import com.gurtus.inertia.runtime.InertiaContext;
+import com.gurtus.inertia.runtime.InertiaController;
+import com.gurtus.inertia.runtime.InertiaEndpoints;
 import com.gurtus.inertia.runtime.InertiaFilter;
+import com.gurtus.inertia.runtime.InertiaRecorder;
 import com.gurtus.inertia.runtime.InertiaService;
+import com.gurtus.inertia.runtime.InertiaViteManifest;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
+import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.vertx.http.deployment.FilterBuildItem;
 
 /**
  * Processor for the Inertia.js extension.
  */
 public class InertiaProcessor {
 
+    private static final Logger LOG = Logger.getLogger(InertiaProcessor.class);
+
     private static final String FEATURE = "inertia-js";
 
+    private static final DotName INERTIA = DotName.createSimple(Inertia.class.getName());
+    private static final DotName INERTIA_CONTROLLER = DotName.createSimple(InertiaController.class.getName());
+    private static final List<DotName> RESOURCE_METHOD_ANNOTATIONS = List.of(
+            DotName.createSimple("jakarta.ws.rs.GET"),
+            DotName.createSimple("jakarta.ws.rs.POST"),
+            DotName.createSimple("jakarta.ws.rs.PUT"),
+            DotName.createSimple("jakarta.ws.rs.PATCH"),
+            DotName.createSimple("jakarta.ws.rs.DELETE"),
+            DotName.createSimple("jakarta.ws.rs.HEAD"),
+            DotName.createSimple("jakarta.ws.rs.OPTIONS"),
+            DotName.createSimple("jakarta.ws.rs.Path"));
+    private static final String CONTROLLER_SUFFIX = "Controller";
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FEATURE);
@@ -31,9 +87,210 @@ public class InertiaProcessor {
                 .addBeanClass("com.gurtus.inertia.runtime.InertiaController")
                 .addBeanClass("com.gurtus.inertia.runtime.InertiaSSRService")
                 .addBeanClass("com.gurtus.inertia.runtime.InertiaHelper")
+                .addBeanClass("com.gurtus.inertia.runtime.InertiaPageWriter")
+                .addBeanClass("com.gurtus.inertia.runtime.InertiaMetrics")
+                .addBeanClass("com.gurtus.inertia.runtime.InertiaPropEvaluator")
+                .addBeanClass("com.gurtus.inertia.runtime.InertiaTemplateShells")
                 .build();
     }
 
+    @BuildStep
+    AdditionalBeanBuildItem registerEndpointsBean() {
+        return AdditionalBeanBuildItem.unremovableOf(InertiaEndpoints.class);
+    }
+
+    /**
+     * Discover the resource methods of Inertia controllers and the methods annotated with {@code @Inertia},
+     * and record their action and component names.
+     */
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void registerEndpoints(CombinedIndexBuildItem combinedIndex, BeanContainerBuildItem beanContainer,
+            InertiaRecorder recorder) {
+        IndexView index = combinedIndex.getIndex();
+        Map<String, String> actions = new HashMap<>();
+        Map<String, String> controllerPaths = new HashMap<>();
+        Map<String, String> components = new HashMap<>();
+
+        for (ClassInfo controller : index.getAllKnownSubclasses(INERTIA_CONTROLLER)) {
+            for (MethodInfo method : controller.methods()) {
+                if (isResourceMethod(method)) {
+                    registerEndpoint(method, actions, controllerPaths, components);
+                }
+            }
+        }
+
+        for (AnnotationInstance annotation : index.getAnnotations(INERTIA)) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.METHOD) {
+                registerEndpoint(annotation.target().asMethod(), actions, controllerPaths, components);
+            }
+        }
+
+        recorder.registerEndpoints(beanContainer.getValue(), actions, controllerPaths, components);
+    }
+
+    private static boolean isResourceMethod(MethodInfo method) {
+        for (DotName annotation : RESOURCE_METHOD_ANNOTATIONS) {
+            if (method.hasDeclaredAnnotation(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void registerEndpoint(MethodInfo method, Map<String, String> actions,
+            Map<String, String> controllerPaths, Map<String, String> components) {
+        String key = InertiaEndpoints.key(method.declaringClass().name().toString(), method.name());
+        actions.put(key, method.name());
+        controllerPaths.put(key, controllerPath(method.declaringClass()));
+
+        AnnotationInstance inertia = method.declaredAnnotation(INERTIA);
+        AnnotationValue component = inertia != null ? inertia.value("component") : null;
+        if (component != null && !component.asString().isEmpty()) {
+            components.put(key, component.asString());
+        }
+    }
+
+    private static String controllerPath(ClassInfo controller) {
+        String name = controller.simpleName();
+        if (name.endsWith(CONTROLLER_SUFFIX) && name.length() > CONTROLLER_SUFFIX.length()) {
+            return name.substring(0, name.length() - CONTROLLER_SUFFIX.length());
+        }
+        return name;
+    }
+
+    /**
+     * Use a hash of the Vite manifest as default asset version, so every frontend build
+     * invalidates the pages cached by clients. An explicitly configured version takes precedence.
+     */
+    @BuildStep
+    void versionFromManifest(InertiaBuildTimeConfig buildTimeConfig,
+            BuildProducer<RunTimeConfigurationDefaultBuildItem> defaults,
+            BuildProducer<HotDeploymentWatchedFileBuildItem> watchedFiles) {
+        if (!buildTimeConfig.versionFromManifest()) {
+            return;
+        }
+
+        String manifest = buildTimeConfig.viteManifest();
+        watchedFiles.produce(new HotDeploymentWatchedFileBuildItem(manifest));
+
+        try {
+            byte[] content = readManifest(manifest);
+            if (content == null) {
+                return;
+            }
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            String version = HexFormat.of().formatHex(digest.digest(content));
+            defaults.produce(new RunTimeConfigurationDefaultBuildItem("quarkus.inertia.version", version));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOG.warnf(e, "Unable to compute the Inertia asset version from %s", manifest);
+        }
+    }
+
+    @BuildStep
+    AdditionalBeanBuildItem registerViteManifestBean() {
+        return AdditionalBeanBuildItem.unremovableOf(InertiaViteManifest.class);
+    }
+
+    /**
+     * Read the chunk graph of the Vite manifest, so templates can load the stylesheets and
+     * preload the chunks of entry points and page components without parsing the manifest at runtime.
+     */
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void registerViteManifest(InertiaBuildTimeConfig buildTimeConfig, BeanContainerBuildItem beanContainer,
+            InertiaRecorder recorder, BuildProducer<HotDeploymentWatchedFileBuildItem> watchedFiles) {
+        String manifest = buildTimeConfig.viteManifest();
+        watchedFiles.produce(new HotDeploymentWatchedFileBuildItem(manifest));
+
+        JsonNode chunks;
+        try {
+            byte[] content = readManifest(manifest);
+            if (content == null) {
+                return;
+            }
+            chunks = new ObjectMapper().readTree(content);
+        } catch (IOException e) {
+            LOG.warnf(e, "Unable to read the Vite manifest %s", manifest);
+            return;
+        }
+
+        String base = buildTimeConfig.viteBase().endsWith("/") ? buildTimeConfig.viteBase()
+                : buildTimeConfig.viteBase() + "/";
+        String pagePattern = buildTimeConfig.vitePagePattern();
+        int placeholder = pagePattern.indexOf("{component}");
+        String pagePrefix = placeholder >= 0 ? pagePattern.substring(0, placeholder) : pagePattern;
+        String pageSuffix = placeholder >= 0 ? pagePattern.substring(placeholder + "{component}".length()) : "";
+
+        Map<String, String> files = new HashMap<>();
+        Map<String, List<String>> stylesheets = new HashMap<>();
+        Map<String, List<String>> imports = new HashMap<>();
+        Map<String, String> components = new HashMap<>();
+
+        Iterator<String> keys = chunks.fieldNames();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            JsonNode chunk = chunks.get(key);
+            if (!chunk.hasNonNull("file")) {
+                continue;
+            }
+
+            Set<String> chunkStylesheets = new LinkedHashSet<>();
+            Set<String> chunkImports = new LinkedHashSet<>();
+            collectChunk(chunks, key, base, chunkStylesheets, chunkImports, new HashSet<>());
+            files.put(key, base + chunk.get("file").asText());
+            stylesheets.put(key, new ArrayList<>(chunkStylesheets));
+            imports.put(key, new ArrayList<>(chunkImports));
+
+            String source = withoutExtension(key);
+            if (placeholder >= 0 && source.startsWith(pagePrefix) && source.endsWith(pageSuffix)
+                    && source.length() > pagePrefix.length() + pageSuffix.length()) {
+                components.put(source.substring(pagePrefix.length(), source.length() - pageSuffix.length()), key);
+            }
+        }
+
+        recorder.registerViteManifest(beanContainer.getValue(), files, stylesheets, imports, components);
+    }
+
+    /**
+     * Collect the stylesheets of a chunk and the files of the chunks it imports statically, transitively.
+     * Dynamic imports are loaded on demand and not preloaded.
+     */
+    private static void collectChunk(JsonNode chunks, String key, String base, Set<String> stylesheets,
+            Set<String> imports, Set<String> visited) {
+        JsonNode chunk = chunks.get(key);
+        if (chunk == null || !visited.add(key)) {
+            return;
+        }
+
+        for (JsonNode stylesheet : chunk.path("css")) {
+            stylesheets.add(base + stylesheet.asText());
+        }
+        for (JsonNode imported : chunk.path("imports")) {
+            JsonNode importedChunk = chunks.get(imported.asText());
+            if (importedChunk != null && importedChunk.hasNonNull("file")) {
+                imports.add(base + importedChunk.get("file").asText());
+            }
+            collectChunk(chunks, imported.asText(), base, stylesheets, imports, visited);
+        }
+    }
+
+    private static String withoutExtension(String path) {
+        int extension = path.lastIndexOf('.');
+        return extension > path.lastIndexOf('/') ? path.substring(0, extension) : path;
+    }
+
+    /**
+     * Read the Vite manifest from the application classpath.
+     *
+     * @return null if there is no manifest, e.g. before the first frontend build
+     */
+    private static byte[] readManifest(String manifest) throws IOException {
+        try (InputStream input = Thread.currentThread().getContextClassLoader().getResourceAsStream(manifest)) {
+            return input != null ? input.readAllBytes() : null;
+        }
+    }
+
     @BuildStep
     ReflectiveClassBuildItem registerForReflection() {
         return ReflectiveClassBuildItem.builder(
@@ -43,10 +300,9 @@ public class InertiaProcessor {
         ).build();
     }
 
-    // TODO: Add filter support later
-    // @BuildStep
-    // @Record(ExecutionTime.RUNTIME_INIT)
-    // FilterBuildItem addInertiaFilter(InertiaRecorder recorder) {
-    //     return new FilterBuildItem(recorder.createInertiaFilter(), 100);
-    // }
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    FilterBuildItem addInertiaFilter(InertiaRecorder recorder) {
+        return new FilterBuildItem(recorder.createInertiaFilter(), 100);
+    }
 } 
\ No newline at end of file
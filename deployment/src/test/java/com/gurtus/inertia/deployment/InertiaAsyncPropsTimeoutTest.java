@@ -0,0 +1,67 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.InertiaResponseBuilder;
+import com.gurtus.inertia.runtime.InertiaService;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+public class InertiaAsyncPropsTimeoutTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(NeverResolvedResource.class))
+            .overrideConfigKey("quarkus.inertia.prop-evaluation-timeout", "200");
+
+    @Test
+    public void blockingRenderFailsAfterTimeout() {
+        assertTimedOut("/never-resolved");
+    }
+
+    @Test
+    public void reactiveRenderFailsAfterTimeout() {
+        assertTimedOut("/never-resolved/reactive");
+    }
+
+    private static void assertTimedOut(String path) {
+        given()
+                .header("X-Inertia", "true")
+                .header("X-Inertia-Version", "1.0.0")
+                .get(path).then()
+                .statusCode(500)
+                .body(containsString("200ms"));
+    }
+
+    @Path("/never-resolved")
+    public static class NeverResolvedResource {
+
+        @Inject
+        InertiaService inertiaService;
+
+        @GET
+        public Response blocking() {
+            return page().build();
+        }
+
+        @GET
+        @Path("/reactive")
+        public Uni<Response> reactive() {
+            return page().buildAsync();
+        }
+
+        private InertiaResponseBuilder page() {
+            return inertiaService.inertia("NeverResolved")
+                    .withAsync("pending", () -> Uni.createFrom().nothing());
+        }
+    }
+}
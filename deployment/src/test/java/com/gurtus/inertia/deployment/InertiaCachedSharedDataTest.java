@@ -0,0 +1,167 @@
+package com.gurtus.inertia.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.InertiaCachedSharedData;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InertiaCachedSharedDataTest {
+
+    static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(TestInertiaResource.class));
+
+    @Test
+    public void dataIsServedFromCacheWithinTtl() {
+        AtomicInteger loads = new AtomicInteger();
+        InertiaCachedSharedData data = new InertiaCachedSharedData(() -> version(loads.incrementAndGet()),
+                HOUR_MILLIS, 0);
+
+        assertEquals(1, data.get().get("version"));
+        assertEquals(1, data.get().get("version"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void dataTooStaleIsLoadedByTheRender() {
+        AtomicInteger loads = new AtomicInteger();
+        InertiaCachedSharedData data = new InertiaCachedSharedData(() -> version(loads.incrementAndGet()), 0, 0);
+
+        assertEquals(1, data.get().get("version"));
+        assertEquals(2, data.get().get("version"));
+        assertEquals(3, data.get().get("version"));
+    }
+
+    @Test
+    public void staleDataIsServedWhileRefreshing() throws Exception {
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        InertiaCachedSharedData data = new InertiaCachedSharedData(() -> {
+            int load = loads.incrementAndGet();
+            if (load == 2) {
+                refreshStarted.countDown();
+                await(releaseRefresh);
+            }
+            return version(load);
+        }, 0, HOUR_MILLIS);
+
+        assertEquals(1, data.get().get("version"));
+        // Stale, served while refreshed in the background
+        assertEquals(1, data.get().get("version"));
+        assertTrue(refreshStarted.await(10, TimeUnit.SECONDS));
+        assertEquals(1, data.get().get("version"));
+
+        releaseRefresh.countDown();
+        SsrStubServer.await(() -> (Integer) data.get().get("version") >= 2);
+    }
+
+    @Test
+    public void failedRefreshKeepsServingStaleData() throws Exception {
+        CountDownLatch refreshFailed = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        InertiaCachedSharedData data = new InertiaCachedSharedData(() -> {
+            int load = loads.incrementAndGet();
+            if (load > 1) {
+                refreshFailed.countDown();
+                throw new IllegalStateException("Refresh failed");
+            }
+            return version(load);
+        }, 0, HOUR_MILLIS);
+
+        assertEquals(1, data.get().get("version"));
+        assertEquals(1, data.get().get("version"));
+        assertTrue(refreshFailed.await(10, TimeUnit.SECONDS));
+
+        // The next stale read tries again
+        SsrStubServer.await(() -> {
+            assertEquals(1, data.get().get("version"));
+            return loads.get() > 2;
+        });
+    }
+
+    @Test
+    public void slowRefreshDoesNotOverwriteNewerData() throws Exception {
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        InertiaCachedSharedData data = new InertiaCachedSharedData(() -> {
+            int load = loads.incrementAndGet();
+            if (load == 2) {
+                refreshStarted.countDown();
+                await(releaseRefresh);
+            }
+            return version(load);
+        }, 0, HOUR_MILLIS);
+
+        assertEquals(1, data.get().get("version"));
+        // Starts a background refresh, blocked until released
+        data.get();
+        assertTrue(refreshStarted.await(10, TimeUnit.SECONDS));
+
+        data.invalidate();
+        assertEquals(3, data.get().get("version"));
+        releaseRefresh.countDown();
+
+        // Refreshes run one at a time, the next one starts once the released refresh completed
+        SsrStubServer.await(() -> {
+            assertNotEquals(2, data.get().get("version"));
+            return loads.get() > 3;
+        });
+        assertNotEquals(2, data.get().get("version"));
+    }
+
+    @Test
+    public void invalidationDropsLoadsStartedBefore() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        InertiaCachedSharedData data = new InertiaCachedSharedData(() -> {
+            int load = loads.incrementAndGet();
+            if (load == 1) {
+                loadStarted.countDown();
+                await(releaseLoad);
+            }
+            return version(load);
+        }, HOUR_MILLIS, 0);
+
+        Thread firstLoad = new Thread(data::get);
+        firstLoad.start();
+        assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+
+        data.invalidate();
+        releaseLoad.countDown();
+        firstLoad.join(10_000);
+
+        // The data loaded before the invalidation is not cached
+        assertEquals(2, data.get().get("version"));
+    }
+
+    private static Map<String, Object> version(int version) {
+        return Map.of("version", version);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Latch not released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+public class InertiaEarlyHintsTest {
+
+    static final String MANIFEST = """
+            {
+              "frontend/app.ts": {"file": "assets/app-1a2b.js", "isEntry": true},
+              "frontend/Pages/TestComponent.vue": {
+                "file": "assets/TestComponent-3c4d.js",
+                "css": ["assets/TestComponent-5e6f.css"],
+                "imports": ["_shared-7a8b.js"]
+              },
+              "_shared-7a8b.js": {"file": "assets/shared-7a8b.js", "css": ["assets/shared-9c0d.css"]}
+            }
+            """;
+
+    static final String LINKS = "</assets/TestComponent-5e6f.css>; rel=preload; as=style, "
+            + "</assets/shared-9c0d.css>; rel=preload; as=style, "
+            + "</assets/shared-7a8b.js>; rel=modulepreload, "
+            + "</assets/TestComponent-3c4d.js>; rel=modulepreload";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(TestInertiaResource.class)
+                    .addAsResource(new StringAsset(MANIFEST), "META-INF/resources/.vite/manifest.json"))
+            .overrideConfigKey("quarkus.inertia.version", "1.0.0")
+            .overrideConfigKey("quarkus.inertia.early-hints", "true");
+
+    @TestHTTPResource("/test")
+    URL url;
+
+    @Test
+    public void finalResponseCarriesTheLinkHeader() {
+        given().get("/test").then()
+                .statusCode(200)
+                .header("Link", LINKS);
+    }
+
+    @Test
+    public void earlyHintsAreSentToHttp11Clients() throws IOException {
+        String response = request("HTTP/1.1");
+
+        assertTrue(response.startsWith("HTTP/1.1 103"), response);
+        assertTrue(response.contains("HTTP/1.1 200"), response);
+    }
+
+    @Test
+    public void earlyHintsAreNotSentToHttp10Clients() throws IOException {
+        String response = request("HTTP/1.0");
+
+        assertFalse(response.contains(" 103 "), response);
+        assertTrue(response.matches("(?s)HTTP/1\\.[01] 200 .*"), response);
+        assertTrue(response.contains("Link: " + LINKS), response);
+    }
+
+    private String request(String version) throws IOException {
+        try (Socket socket = new Socket(url.getHost(), url.getPort())) {
+            OutputStream output = socket.getOutputStream();
+            output.write(("GET " + url.getPath() + " " + version + "\r\n"
+                    + "Host: " + url.getHost() + "\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+            try (InputStream input = socket.getInputStream()) {
+                return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+}
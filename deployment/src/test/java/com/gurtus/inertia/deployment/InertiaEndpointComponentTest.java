@@ -0,0 +1,75 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.Inertia;
+import com.gurtus.inertia.runtime.InertiaController;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.specification.RequestSpecification;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+public class InertiaEndpointComponentTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(UsersController.class))
+            .overrideConfigKey("quarkus.inertia.default-render", "true");
+
+    @Test
+    public void componentFromPathPattern() {
+        inertia().get("/users").then()
+                .statusCode(200)
+                .body("component", equalTo("Users/index"))
+                .body("props.count", equalTo(2));
+    }
+
+    @Test
+    public void componentFromAnnotation() {
+        inertia().get("/users/profile").then()
+                .statusCode(200)
+                .body("component", equalTo("Users/Profile"));
+    }
+
+    @Test
+    public void explicitComponentWins() {
+        inertia().get("/users/explicit").then()
+                .statusCode(200)
+                .body("component", equalTo("Explicit"));
+    }
+
+    private static RequestSpecification inertia() {
+        return given()
+                .header("X-Inertia", "true")
+                .header("X-Inertia-Version", "1.0.0");
+    }
+
+    @Path("/users")
+    public static class UsersController extends InertiaController {
+
+        @GET
+        public Response index() {
+            return render(props("count", 2));
+        }
+
+        @GET
+        @Path("/profile")
+        @Inertia(component = "Users/Profile")
+        public Response profile() {
+            return render(props("name", "Ada"));
+        }
+
+        @GET
+        @Path("/explicit")
+        @Inertia(component = "Users/Ignored")
+        public Response explicit() {
+            return inertia("Explicit");
+        }
+    }
+}
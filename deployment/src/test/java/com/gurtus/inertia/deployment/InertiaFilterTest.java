@@ -0,0 +1,97 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.specification.RequestSpecification;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.PATCH;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+public class InertiaFilterTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(TestInertiaResource.class, RedirectResource.class))
+            .overrideConfigKey("quarkus.inertia.version", "1.0.0");
+
+    @Test
+    public void staleVersionForcesFullReload() {
+        inertia("0.9.0").get("/test?page=2").then()
+                .statusCode(409)
+                .header("X-Inertia-Location", endsWith("/test?page=2"));
+    }
+
+    @Test
+    public void matchingVersionIsRendered() {
+        inertia("1.0.0").get("/test").then()
+                .statusCode(200)
+                .body("component", equalTo("TestComponent"));
+    }
+
+    @Test
+    public void versionIsOnlyCheckedForInertiaRequests() {
+        given().header("X-Inertia-Version", "0.9.0").get("/test").then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void redirectsAfterPutPatchAndDeleteBecomeSeeOther() {
+        inertia("1.0.0").put("/redirect").then().statusCode(303).header("Location", endsWith("/test"));
+        inertia("1.0.0").patch("/redirect").then().statusCode(303);
+        inertia("1.0.0").delete("/redirect").then().statusCode(303);
+    }
+
+    @Test
+    public void otherRedirectsAreKept() {
+        // Browsers already follow a redirect after a POST with a GET
+        inertia("1.0.0").post("/redirect").then().statusCode(302);
+        // Not an Inertia visit
+        given().redirects().follow(false).put("/redirect").then().statusCode(302);
+    }
+
+    private static RequestSpecification inertia(String version) {
+        return given()
+                .redirects().follow(false)
+                .header("X-Inertia", "true")
+                .header("X-Inertia-Version", version);
+    }
+
+    @Path("/redirect")
+    public static class RedirectResource {
+
+        @PUT
+        public Response put() {
+            return redirect();
+        }
+
+        @PATCH
+        public Response patch() {
+            return redirect();
+        }
+
+        @DELETE
+        public Response delete() {
+            return redirect();
+        }
+
+        @POST
+        public Response post() {
+            return redirect();
+        }
+
+        private static Response redirect() {
+            return Response.status(302).location(URI.create("/test")).build();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InertiaManifestVersionTest {
+
+    static final String MANIFEST = """
+            {"frontend/app.ts": {"file": "assets/app-4f2a.js", "isEntry": true}}
+            """;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(TestInertiaResource.class)
+                    .addAsResource(new StringAsset(MANIFEST), "META-INF/resources/.vite/manifest.json"));
+
+    @Test
+    public void versionDefaultsToTheManifestHash() throws Exception {
+        String hash = HexFormat.of().formatHex(
+                MessageDigest.getInstance("MD5").digest(MANIFEST.getBytes(StandardCharsets.UTF_8)));
+
+        // The hash is a default, a version set in application.properties still takes precedence
+        assertTrue(StreamSupport.stream(ConfigProvider.getConfig().getConfigSources().spliterator(), false)
+                .anyMatch(source -> hash.equals(source.getValue("quarkus.inertia.version"))));
+
+        String version = ConfigProvider.getConfig().getValue("quarkus.inertia.version", String.class);
+        given().header("X-Inertia", "true").header("X-Inertia-Version", version)
+                .get("/test").then().statusCode(200);
+        given().header("X-Inertia", "true").header("X-Inertia-Version", hash + "0")
+                .get("/test").then().statusCode(409);
+    }
+}
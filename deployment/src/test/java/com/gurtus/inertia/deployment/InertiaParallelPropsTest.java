@@ -0,0 +1,111 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.InertiaProps;
+import com.gurtus.inertia.runtime.InertiaResponseBuilder;
+import com.gurtus.inertia.runtime.InertiaService;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.response.ValidatableResponse;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+public class InertiaParallelPropsTest {
+
+    static final int PROPS = 4;
+
+    /**
+     * Each slow prop waits for all the others, so the page only renders if they are all evaluated at once.
+     */
+    static final CyclicBarrier ALL_PROPS = new CyclicBarrier(PROPS);
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(SlowPropsResource.class))
+            .overrideConfigKey("quarkus.inertia.parallel-prop-evaluation", "true");
+
+    @Test
+    public void blockingRenderEvaluatesPropsAtOnce() {
+        assertParallel(render("/slow-props"));
+    }
+
+    @Test
+    public void reactiveRenderEvaluatesPropsAtOnce() {
+        assertParallel(render("/slow-props/reactive"))
+                // Evaluated off the event loop
+                .body("props.thread", not(startsWith("vert.x-eventloop")));
+    }
+
+    private static ValidatableResponse render(String path) {
+        return given()
+                .header("X-Inertia", "true")
+                .header("X-Inertia-Version", "1.0.0")
+                .get(path).then()
+                .statusCode(200);
+    }
+
+    private static ValidatableResponse assertParallel(ValidatableResponse response) {
+        // Sequential evaluation would leave each prop waiting alone at the barrier
+        for (int i = 0; i < PROPS; i++) {
+            response.body("props.slow" + i, equalTo("value " + i));
+        }
+        return response;
+    }
+
+    @Path("/slow-props")
+    public static class SlowPropsResource {
+
+        @Inject
+        InertiaService inertiaService;
+
+        @GET
+        public Response blocking() {
+            return page().build();
+        }
+
+        @GET
+        @Path("/reactive")
+        public Uni<Response> reactive() {
+            return page().buildAsync();
+        }
+
+        private InertiaResponseBuilder page() {
+            InertiaResponseBuilder builder = inertiaService.inertia("SlowProps")
+                    .with("thread", InertiaProps.always(() -> Thread.currentThread().getName()));
+            for (int i = 0; i < PROPS; i++) {
+                String value = "value " + i;
+                builder.with("slow" + i, InertiaProps.always(() -> slow(value)));
+            }
+            return builder;
+        }
+
+        private static Object slow(String value) {
+            try {
+                ALL_PROPS.await(5, TimeUnit.SECONDS);
+                return value;
+            } catch (TimeoutException | BrokenBarrierException e) {
+                // Let the next render start from a fresh barrier
+                ALL_PROPS.reset();
+                return "not evaluated in parallel";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "interrupted";
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.InertiaService;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.specification.RequestSpecification;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+public class InertiaPartialReloadTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(DashboardResource.class));
+
+    @Test
+    public void fullVisitIncludesAllProps() {
+        inertia().get("/dashboard").then()
+                .statusCode(200)
+                .body("props", allOf(hasKey("user"), hasKey("user.name"), hasKey("user.email"),
+                        hasKey("username"), hasKey("settings.theme"), hasKey("stats")));
+    }
+
+    @Test
+    public void onlyIncludesNestedKeysOfRequestedPrefix() {
+        partial().header("X-Inertia-Partial-Data", "user").get("/dashboard").then()
+                .statusCode(200)
+                .body("props", allOf(hasKey("user"), hasKey("user.name"), hasKey("user.email")))
+                // Prefixes match on whole segments only
+                .body("props", allOf(not(hasKey("username")), not(hasKey("settings.theme")), not(hasKey("stats"))));
+    }
+
+    @Test
+    public void onlyMatchesNestedKeysExactly() {
+        partial().header("X-Inertia-Partial-Data", "user.name, stats").get("/dashboard").then()
+                .statusCode(200)
+                .body("props", allOf(hasKey("user.name"), hasKey("stats")))
+                .body("props", allOf(not(hasKey("user")), not(hasKey("user.email")), not(hasKey("settings.theme"))));
+    }
+
+    @Test
+    public void exceptExcludesNestedKeysOfPrefix() {
+        partial().header("X-Inertia-Partial-Except", "user").get("/dashboard").then()
+                .statusCode(200)
+                .body("props", allOf(hasKey("username"), hasKey("settings.theme"), hasKey("stats")))
+                .body("props", allOf(not(hasKey("user")), not(hasKey("user.name")), not(hasKey("user.email"))));
+    }
+
+    @Test
+    public void exceptWinsOverOnly() {
+        partial()
+                .header("X-Inertia-Partial-Data", "user,settings")
+                .header("X-Inertia-Partial-Except", "user.email")
+                .get("/dashboard").then()
+                .statusCode(200)
+                .body("props", allOf(hasKey("user"), hasKey("user.name"), hasKey("settings.theme")))
+                .body("props", allOf(not(hasKey("user.email")), not(hasKey("username")), not(hasKey("stats"))));
+    }
+
+    private static RequestSpecification inertia() {
+        return given()
+                .header("X-Inertia", "true")
+                .header("X-Inertia-Version", "1.0.0");
+    }
+
+    private static RequestSpecification partial() {
+        return inertia().header("X-Inertia-Partial-Component", "Dashboard");
+    }
+
+    @Path("/dashboard")
+    public static class DashboardResource {
+
+        @Inject
+        InertiaService inertiaService;
+
+        @GET
+        public Response dashboard() {
+            return inertiaService.inertia("Dashboard")
+                    .with("user", Map.of("name", "Ada", "email", "ada@example.com"))
+                    .with("user.name", "Ada")
+                    .with("user.email", "ada@example.com")
+                    .with("username", "ada")
+                    .with("settings.theme", "dark")
+                    .with("stats", 42)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InertiaRenderAsyncSSRTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(InertiaRenderAsyncTest.AsyncResource.class, SsrStubServer.class)
+                    .addAsResource(new StringAsset(InertiaRenderAsyncTest.TEMPLATE), "templates/inertia.html"))
+            .overrideConfigKey("quarkus.inertia.ssr-enabled", "true")
+            .overrideConfigKey("quarkus.inertia.ssr-url", SsrStubServer.url("async"))
+            .overrideConfigKey("quarkus.inertia.ssr-timeout", "500")
+            .overrideConfigKey("quarkus.inertia.ssr-circuit-breaker-enabled", "false");
+
+    @BeforeEach
+    void resetStub() {
+        SsrStubServer.reset("async");
+    }
+
+    @Test
+    public void rendersServerSideOnTheRequestContext() {
+        // The SSR head is handed to the template through the request scoped helper
+        given().get("/async").then()
+                .statusCode(200)
+                .body(containsString("<head><title>async</title></head>"), containsString("rendered by async"));
+    }
+
+    @Test
+    public void fallsBackToClientSide() {
+        SsrStubServer.node("async").fail();
+
+        given().get("/async").then()
+                .statusCode(200)
+                .body(containsString("data-page="), containsString("AsyncPage"), not(containsString("<title>")));
+    }
+}
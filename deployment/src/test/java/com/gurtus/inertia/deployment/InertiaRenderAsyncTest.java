@@ -0,0 +1,106 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.InertiaService;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+public class InertiaRenderAsyncTest {
+
+    /**
+     * Uses the request scoped helper, so the template fails if it is rendered outside of the request context.
+     */
+    static final String TEMPLATE = """
+            <!DOCTYPE html>
+            <html>
+            <head>{#if inertiaHelper.hasSSRHead}{inertiaHelper.inertiaSSRHead.raw}{/if}</head>
+            <body>{#if ssrBody}{ssrBody.raw}{#else}<div id="app" data-page='{pageJson}'></div>{/if}</body>
+            </html>
+            """;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(AsyncResource.class)
+                    .addAsResource(new StringAsset(TEMPLATE), "templates/inertia.html"));
+
+    @Inject
+    InertiaService inertiaService;
+
+    @BeforeEach
+    void shareData() {
+        inertiaService.shareData(Map.of("reactiveOnly", true), "reactive");
+    }
+
+    @AfterEach
+    void clearSharedData() {
+        inertiaService.clearSharedData();
+    }
+
+    @Test
+    public void rendersClientSide() {
+        given().get("/async").then()
+                .statusCode(200)
+                .body(containsString("data-page="), containsString("AsyncPage"), containsString("late"),
+                        not(containsString("<title>")));
+    }
+
+    @Test
+    public void rendersJsonWithTheActionOfTheResourceMethod() {
+        given()
+                .header("X-Inertia", "true")
+                .header("X-Inertia-Version", "1.0.0")
+                .get("/async").then()
+                .statusCode(200)
+                .body("component", equalTo("AsyncPage"))
+                .body("props.delayed", equalTo("late"))
+                .body("props.reactiveOnly", equalTo(true));
+
+        given()
+                .header("X-Inertia", "true")
+                .header("X-Inertia-Version", "1.0.0")
+                .get("/async/other").then()
+                .statusCode(200)
+                .body("props.reactiveOnly", nullValue());
+    }
+
+    @Path("/async")
+    public static class AsyncResource {
+
+        @Inject
+        InertiaService inertiaService;
+
+        @GET
+        public Uni<Response> reactive() {
+            return inertiaService.inertia("AsyncPage")
+                    // Completes on another thread than the event loop of the request
+                    .withAsync("delayed", () -> Uni.createFrom().item("late").onItem().delayIt().by(Duration.ofMillis(20)))
+                    .buildAsync();
+        }
+
+        @GET
+        @Path("/other")
+        public Uni<Response> other() {
+            return inertiaService.inertia("OtherPage").buildAsync();
+        }
+    }
+}
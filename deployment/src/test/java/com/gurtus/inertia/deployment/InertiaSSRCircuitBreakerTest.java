@@ -0,0 +1,168 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.InertiaMetrics;
+import com.gurtus.inertia.runtime.InertiaSSRCircuitBreaker;
+import com.gurtus.inertia.runtime.InertiaSSRCircuitBreaker.Permit;
+import com.gurtus.inertia.runtime.InertiaSSRCircuitBreaker.State;
+import com.gurtus.inertia.runtime.InertiaSSRService;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+
+public class InertiaSSRCircuitBreakerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(TestInertiaResource.class, SsrStubServer.class)
+                    .addAsResource(new StringAsset(SsrStubServer.TEMPLATE), "templates/inertia.html"))
+            .overrideConfigKey("quarkus.inertia.ssr-enabled", "true")
+            .overrideConfigKey("quarkus.inertia.ssr-url", SsrStubServer.url("node"))
+            .overrideConfigKey("quarkus.inertia.ssr-timeout", "500")
+            .overrideConfigKey("quarkus.inertia.ssr-circuit-breaker-failure-threshold", "2")
+            .overrideConfigKey("quarkus.inertia.ssr-circuit-breaker-probe-interval", "1000");
+
+    @Inject
+    InertiaSSRService ssrService;
+
+    @Inject
+    InertiaMetrics metrics;
+
+    @BeforeEach
+    void closeCircuit() {
+        SsrStubServer.reset("node");
+        // Renders close the circuit once a probe lets a trial through
+        SsrStubServer.await(() -> {
+            render();
+            return ssrService.getCircuitBreakerState() == State.CLOSED;
+        });
+        SsrStubServer.reset("node");
+    }
+
+    @Test
+    public void rendersServerSideWhileClosed() {
+        assertServerSide();
+        assertEquals(1, SsrStubServer.node("node").renders());
+        assertFalse(metrics.isSsrCircuitOpen());
+    }
+
+    @Test
+    public void opensAfterConsecutiveFailuresAndFallsBackToClientSide() {
+        SsrStubServer.node("node").fail();
+
+        assertClientSide();
+        assertEquals(State.CLOSED, ssrService.getCircuitBreakerState());
+        assertClientSide();
+        assertEquals(State.OPEN, ssrService.getCircuitBreakerState());
+        assertTrue(metrics.isSsrCircuitOpen());
+
+        // Short-circuited, the SSR server is not called anymore
+        assertClientSide();
+        assertEquals(2, SsrStubServer.node("node").renders());
+    }
+
+    @Test
+    public void timeoutsCountAsFailures() {
+        SsrStubServer.node("node").set(SsrStubServer.Mode.SLOW, true);
+
+        assertClientSide();
+        assertClientSide();
+        assertEquals(State.OPEN, ssrService.getCircuitBreakerState());
+    }
+
+    @Test
+    public void successfulTrialClosesCircuit() {
+        openCircuit();
+
+        SsrStubServer.node("node").recover();
+        SsrStubServer.await(() -> ssrService.getCircuitBreakerState() == State.HALF_OPEN);
+
+        assertServerSide();
+        assertEquals(State.CLOSED, ssrService.getCircuitBreakerState());
+        assertFalse(metrics.isSsrCircuitOpen());
+        assertServerSide();
+    }
+
+    @Test
+    public void failedTrialOpensCircuitAgain() {
+        openCircuit();
+
+        // Healthy but still failing renders
+        SsrStubServer.node("node").set(SsrStubServer.Mode.FAIL, true);
+        SsrStubServer.await(() -> ssrService.getCircuitBreakerState() == State.HALF_OPEN);
+        int renders = SsrStubServer.node("node").renders();
+
+        assertClientSide();
+        assertEquals(State.OPEN, ssrService.getCircuitBreakerState());
+        assertEquals(renders + 1, SsrStubServer.node("node").renders());
+        assertTrue(metrics.isSsrCircuitOpen());
+    }
+
+    @Test
+    public void halfOpenLetsASingleTrialThrough() {
+        InertiaSSRCircuitBreaker breaker = new InertiaSSRCircuitBreaker(1, 0);
+        breaker.record(false, 0);
+        breaker.halfOpen();
+
+        // Checking does not take the trial, only the admitted render does
+        assertTrue(breaker.allowRequest());
+        assertEquals(Permit.TRIAL, breaker.acquirePermit());
+        assertFalse(breaker.allowRequest());
+        assertEquals(Permit.DENIED, breaker.acquirePermit());
+
+        breaker.record(true, 0);
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(Permit.GRANTED, breaker.acquirePermit());
+    }
+
+    @Test
+    public void abandonedTrialOpensCircuitUntilNextProbe() {
+        InertiaSSRCircuitBreaker breaker = new InertiaSSRCircuitBreaker(1, 0);
+        breaker.record(false, 0);
+        breaker.halfOpen();
+        assertEquals(Permit.TRIAL, breaker.acquirePermit());
+
+        // The trial was cancelled before the server answered
+        assertTrue(breaker.abandonTrial());
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(Permit.DENIED, breaker.acquirePermit());
+
+        breaker.halfOpen();
+        assertEquals(Permit.TRIAL, breaker.acquirePermit());
+    }
+
+    private void openCircuit() {
+        SsrStubServer.node("node").fail();
+        render();
+        render();
+        assertEquals(State.OPEN, ssrService.getCircuitBreakerState());
+    }
+
+    private static String render() {
+        return given().when().get("/test").then().statusCode(200).extract().asString();
+    }
+
+    private static void assertServerSide() {
+        given().when().get("/test").then()
+                .statusCode(200)
+                .body(containsString("rendered by node"), containsString("<title>node</title>"));
+    }
+
+    private static void assertClientSide() {
+        given().when().get("/test").then()
+                .statusCode(200)
+                .body(containsString("data-page="), containsString("TestComponent"), not(containsString("rendered by")));
+    }
+}
@@ -0,0 +1,86 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InertiaSSRLoadBalancingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(TestInertiaResource.class, SsrStubServer.class)
+                    .addAsResource(new StringAsset(SsrStubServer.TEMPLATE), "templates/inertia.html"))
+            .overrideConfigKey("quarkus.inertia.ssr-enabled", "true")
+            .overrideConfigKey("quarkus.inertia.ssr-urls", SsrStubServer.url("a") + "," + SsrStubServer.url("b"))
+            .overrideConfigKey("quarkus.inertia.ssr-load-balancing", "round-robin")
+            .overrideConfigKey("quarkus.inertia.ssr-timeout", "500")
+            // Only the ejection of single servers is under test
+            .overrideConfigKey("quarkus.inertia.ssr-circuit-breaker-enabled", "false")
+            .overrideConfigKey("quarkus.inertia.ssr-circuit-breaker-failure-threshold", "2")
+            .overrideConfigKey("quarkus.inertia.ssr-circuit-breaker-probe-interval", "500");
+
+    @BeforeEach
+    void rejoinRotation() {
+        SsrStubServer.reset("a", "b");
+        // A server still ejected by a previous test rejoins with its trial render
+        SsrStubServer.await(() -> {
+            SsrStubServer.reset("a", "b");
+            for (int i = 0; i < 4; i++) {
+                render();
+            }
+            return SsrStubServer.node("a").renders() == 2 && SsrStubServer.node("b").renders() == 2;
+        });
+        SsrStubServer.reset("a", "b");
+    }
+
+    @Test
+    public void distributesRenders() {
+        for (int i = 0; i < 6; i++) {
+            render();
+        }
+
+        assertEquals(3, SsrStubServer.node("a").renders());
+        assertEquals(3, SsrStubServer.node("b").renders());
+    }
+
+    @Test
+    public void ejectsFailingServerUntilItRecovers() {
+        SsrStubServer.node("b").fail();
+        for (int i = 0; i < 4; i++) {
+            render();
+        }
+        assertEquals(2, SsrStubServer.node("b").renders());
+
+        // Ejected, every page is rendered by the other server
+        for (int i = 0; i < 4; i++) {
+            given().when().get("/test").then()
+                    .statusCode(200)
+                    .body(containsString("rendered by a"));
+        }
+        assertEquals(2, SsrStubServer.node("b").renders());
+
+        SsrStubServer.node("b").recover();
+        SsrStubServer.await(() -> {
+            render();
+            return SsrStubServer.node("b").renders() > 2;
+        });
+
+        int renders = SsrStubServer.node("b").renders();
+        for (int i = 0; i < 4; i++) {
+            render();
+        }
+        assertEquals(renders + 2, SsrStubServer.node("b").renders());
+    }
+
+    private static void render() {
+        given().when().get("/test").then().statusCode(200);
+    }
+}
@@ -0,0 +1,73 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Map;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.InertiaService;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+
+public class InertiaSerializedSharedPropsTest {
+
+    static final String TEMPLATE = """
+            <!DOCTYPE html>
+            <html>
+            <head><title>{page.props.appName}</title></head>
+            <body data-theme="{page.props.settings.theme}"><div id="app" data-page='{pageJson}'></div></body>
+            </html>
+            """;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(TestInertiaResource.class)
+                    .addAsResource(new StringAsset(TEMPLATE), "templates/inertia.html"))
+            .overrideConfigKey("quarkus.inertia.serialize-shared-props-once", "true");
+
+    @Inject
+    InertiaService inertiaService;
+
+    @BeforeEach
+    void share() {
+        inertiaService.share("appName", "Inertia Quarkus");
+        inertiaService.share("settings", Map.of("theme", "dark"));
+        inertiaService.share("message", "Shared message");
+    }
+
+    @AfterEach
+    void clearSharedData() {
+        inertiaService.clearSharedData();
+    }
+
+    @Test
+    public void templatesSeeSharedValues() {
+        given().get("/test").then()
+                .statusCode(200)
+                .body(containsString("<title>Inertia Quarkus</title>"), containsString("data-theme=\"dark\""),
+                        not(containsString("RawValue")));
+    }
+
+    @Test
+    public void jsonContainsSharedValues() {
+        given()
+                .header("X-Inertia", "true")
+                .header("X-Inertia-Version", "1.0.0")
+                .get("/test").then()
+                .statusCode(200)
+                .body("props.appName", equalTo("Inertia Quarkus"))
+                .body("props.settings.theme", equalTo("dark"))
+                // Page props override shared props
+                .body("props.message", equalTo("Hello from test!"));
+    }
+}
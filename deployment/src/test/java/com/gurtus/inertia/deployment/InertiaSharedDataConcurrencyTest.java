@@ -0,0 +1,119 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.InertiaService;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+
+public class InertiaSharedDataConcurrencyTest {
+
+    static final int RENDERS = 4;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(TestInertiaResource.class));
+
+    @Inject
+    InertiaService inertiaService;
+
+    @AfterEach
+    void clearSharedData() {
+        inertiaService.clearSharedData();
+    }
+
+    @Test
+    public void slowSupplierDoesNotSerializeRenders() throws Exception {
+        AtomicReference<CountDownLatch> arrivals = new AtomicReference<>();
+        inertiaService.shareData(() -> {
+            // Each render waits for all others, renders holding a lock while evaluating would never all arrive
+            CountDownLatch latch = arrivals.get();
+            if (latch == null) {
+                return Map.of("parallel", true);
+            }
+            latch.countDown();
+            return Map.of("parallel", await(latch));
+        });
+        // Warm up
+        render();
+
+        arrivals.set(new CountDownLatch(RENDERS));
+        ExecutorService executor = Executors.newFixedThreadPool(RENDERS);
+        try {
+            List<Future<Boolean>> renders = new ArrayList<>();
+            for (int i = 0; i < RENDERS; i++) {
+                renders.add(executor.submit(() -> given()
+                        .header("X-Inertia", "true")
+                        .header("X-Inertia-Version", "1.0.0")
+                        .get("/test").then()
+                        .statusCode(200)
+                        .extract().<Boolean> path("props.parallel")));
+            }
+            for (Future<Boolean> render : renders) {
+                assertTrue(render.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void sharingDataWhileRendering() throws Exception {
+        AtomicBoolean rendering = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> registrations = executor.submit(() -> {
+                int count = 0;
+                while (rendering.get() && count < 1000) {
+                    inertiaService.shareData(Map.of("key" + count, count));
+                    count++;
+                }
+                return count;
+            });
+
+            for (int i = 0; i < 50; i++) {
+                assertEquals(200, render());
+            }
+            rendering.set(false);
+            assertTrue(registrations.get() > 0);
+        } finally {
+            rendering.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    private static int render() {
+        return given()
+                .header("X-Inertia", "true")
+                .header("X-Inertia-Version", "1.0.0")
+                .get("/test").then()
+                .extract().statusCode();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
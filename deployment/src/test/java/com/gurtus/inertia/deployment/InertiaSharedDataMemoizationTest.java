@@ -0,0 +1,91 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.InertiaService;
+import com.gurtus.inertia.runtime.InertiaSharedData;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.response.ValidatableResponse;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+public class InertiaSharedDataMemoizationTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(TwiceResource.class))
+            .overrideConfigKey("quarkus.inertia.version", "1.0.0");
+
+    @Inject
+    InertiaService inertiaService;
+
+    @AfterEach
+    void clearSharedData() {
+        inertiaService.clearSharedData();
+    }
+
+    @Test
+    public void supplierAndConditionRunOncePerRequest() {
+        AtomicInteger suppliers = new AtomicInteger();
+        AtomicInteger conditions = new AtomicInteger();
+        inertiaService.shareData(InertiaSharedData.builder()
+                .withDynamicData(() -> Map.of("supplied", suppliers.incrementAndGet()))
+                .withConditional(() -> conditions.incrementAndGet() > 0)
+                .build());
+
+        render().body("props.supplied", equalTo(1));
+        assertEquals(1, suppliers.get());
+        assertEquals(1, conditions.get());
+
+        // Memoized per request, not across requests
+        render().body("props.supplied", equalTo(2));
+        assertEquals(2, suppliers.get());
+        assertEquals(2, conditions.get());
+    }
+
+    @Test
+    public void memoizationCanBeDisabled() {
+        AtomicInteger suppliers = new AtomicInteger();
+        AtomicInteger conditions = new AtomicInteger();
+        inertiaService.shareData(InertiaSharedData.builder()
+                .withDynamicData(() -> Map.of("supplied", suppliers.incrementAndGet()))
+                .withConditional(() -> conditions.incrementAndGet() > 0)
+                .memoize(false)
+                .build());
+
+        render().body("props.supplied", equalTo(2));
+        assertEquals(2, suppliers.get());
+        assertEquals(2, conditions.get());
+    }
+
+    private static ValidatableResponse render() {
+        return given().header("X-Inertia", "true").header("X-Inertia-Version", "1.0.0")
+                .get("/twice").then().statusCode(200);
+    }
+
+    @Path("/twice")
+    public static class TwiceResource {
+
+        @Inject
+        InertiaService inertiaService;
+
+        @GET
+        public Response twice() {
+            // E.g. a page rendered to warm a cache before the response
+            inertiaService.inertia("First").build();
+            return inertiaService.inertia("Second").build();
+        }
+    }
+}
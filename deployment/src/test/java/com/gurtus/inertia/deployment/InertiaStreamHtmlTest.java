@@ -0,0 +1,61 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.InertiaHelper;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import jakarta.inject.Inject;
+
+public class InertiaStreamHtmlTest {
+
+    static final String TEMPLATE = """
+            <!DOCTYPE html>
+            <html>
+            <head><title>Streamed</title></head>
+            <body><div id="app" data-page='{pageJson}'></div></body>
+            </html>
+            """;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(TestInertiaResource.class)
+                    .addAsResource(new StringAsset(TEMPLATE), "templates/inertia.html"))
+            .overrideConfigKey("quarkus.inertia.version", "1.0.0")
+            .overrideConfigKey("quarkus.inertia.stream-html", "true");
+
+    @Inject
+    InertiaHelper inertiaHelper;
+
+    @Inject
+    Engine quteEngine;
+
+    @Test
+    public void streamedBodyEqualsBufferedBody() {
+        ExtractableResponse<Response> streamed = given().get("/test").then().statusCode(200).extract();
+        assertEquals("chunked", streamed.header("Transfer-Encoding"));
+
+        // Inertia requests are not streamed, their page is the one spliced into the template
+        String pageJson = given().header("X-Inertia", "true").header("X-Inertia-Version", "1.0.0")
+                .get("/test").then().statusCode(200).extract().asString();
+        String buffered = quteEngine.getTemplate("inertia.html")
+                .data("pageJson", pageJson)
+                .data("isDevelopment", false)
+                .data("inertiaHelper", inertiaHelper)
+                .render();
+
+        assertArrayEquals(buffered.getBytes(StandardCharsets.UTF_8), streamed.asByteArray(), streamed::asString);
+    }
+}
@@ -0,0 +1,94 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.InertiaHelper;
+import com.gurtus.inertia.runtime.InertiaService;
+import com.gurtus.inertia.runtime.InertiaTemplateShells;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+public class InertiaTemplateShellQuteTest {
+
+    static final String MANIFEST = """
+            {"frontend/main.ts": {"file": "assets/main-4f2a.js", "isEntry": true, "css": ["assets/main-9c1d.css"]}}
+            """;
+
+    // Page data in a development-only block and Vite tags of a fixed entry do not prevent the shell
+    static final String TEMPLATE = """
+            <!DOCTYPE html>
+            <html>
+            <head>
+            {#if isDevelopment}<meta name="component" content="{page.component}">{/if}
+            {inertiaHelper.viteTags('frontend/main.ts').raw}
+            </head>
+            <body><div id="app" data-page='{pageJson}'></div></body>
+            </html>
+            """;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(ShellResource.class)
+                    .addAsResource(new StringAsset(TEMPLATE), "templates/inertia.html")
+                    .addAsResource(new StringAsset(MANIFEST), "META-INF/resources/.vite/manifest.json"))
+            .overrideConfigKey("quarkus.inertia.version", "1.0.0")
+            .overrideConfigKey("quarkus.inertia.prerender-template", "true");
+
+    @Inject
+    InertiaTemplateShells templateShells;
+
+    @Inject
+    InertiaHelper inertiaHelper;
+
+    @Inject
+    Engine quteEngine;
+
+    @Test
+    public void shellOutputEqualsQuteOutput() {
+        byte[] html = given().get("/shell").then().statusCode(200).extract().asByteArray();
+        assertNotNull(templateShells.get(false), "The template should be pre-rendered");
+
+        String pageJson = given().header("X-Inertia", "true").header("X-Inertia-Version", "1.0.0")
+                .get("/shell").then().statusCode(200).extract().asString();
+        String expected = quteEngine.getTemplate("inertia.html")
+                .data("pageJson", pageJson)
+                .data("isDevelopment", false)
+                .data("inertiaHelper", inertiaHelper)
+                .render();
+
+        assertTrue(expected.contains("assets/main-4f2a.js"), expected);
+        assertTrue(expected.contains("&#39;") && expected.contains("&amp;") && expected.contains("&lt;"), expected);
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), html, () -> new String(html, StandardCharsets.UTF_8));
+    }
+
+    @Path("/shell")
+    public static class ShellResource {
+
+        @Inject
+        InertiaService inertiaService;
+
+        @GET
+        public Response shell() {
+            return inertiaService.inertia("Shell/Index")
+                    .with("quote", "it's")
+                    .with("ampersand", "Tom & Jerry")
+                    .with("tag", "<script>")
+                    .build();
+        }
+    }
+}
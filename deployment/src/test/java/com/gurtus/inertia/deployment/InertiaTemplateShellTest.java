@@ -0,0 +1,60 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Named;
+
+public class InertiaTemplateShellTest {
+
+    static final String TEMPLATE = """
+            <!DOCTYPE html>
+            <html>
+            <head><meta name="request-id" content="{inject:requestId.value}"></head>
+            <body><div id="app" data-page='{pageJson}'></div></body>
+            </html>
+            """;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(TestInertiaResource.class, RequestId.class)
+                    .addAsResource(new StringAsset(TEMPLATE), "templates/inertia.html"))
+            .overrideConfigKey("quarkus.inertia.prerender-template", "true");
+
+    @Test
+    public void requestScopedValuesAreNotBakedIntoShell() {
+        String first = given().get("/test").then().statusCode(200).extract().asString();
+        String second = given().get("/test").then().statusCode(200).extract().asString();
+
+        assertTrue(first.contains("TestComponent"), first);
+        assertNotEquals(requestId(first), requestId(second));
+    }
+
+    private static String requestId(String html) {
+        int start = html.indexOf("content=\"") + "content=\"".length();
+        return html.substring(start, html.indexOf('"', start));
+    }
+
+    @Named("requestId")
+    @RequestScoped
+    public static class RequestId {
+
+        private static final AtomicInteger COUNTER = new AtomicInteger();
+
+        private final int value = COUNTER.incrementAndGet();
+
+        public int getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.gurtus.inertia.deployment;
+
+import static io.restassured.RestAssured.given;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InertiaVersionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(TestInertiaResource.class))
+            .overrideConfigKey("quarkus.inertia.version", "1.0");
+
+    @Test
+    public void numericVersionsAreComparedNumerically() {
+        assertStatus("1.0", 200);
+        assertStatus("1", 200);
+        assertStatus("1.00", 200);
+        assertStatus("2", 409);
+    }
+
+    @Test
+    public void otherVersionsAreStale() {
+        assertStatus("1.0.0", 409);
+        assertStatus("abc", 409);
+        assertStatus(null, 409);
+    }
+
+    private static void assertStatus(String version, int status) {
+        var request = given().header("X-Inertia", "true");
+        if (version != null) {
+            request.header("X-Inertia-Version", version);
+        }
+        request.get("/test").then().statusCode(status);
+    }
+}
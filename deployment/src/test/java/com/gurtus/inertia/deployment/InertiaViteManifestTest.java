@@ -0,0 +1,87 @@
+package com.gurtus.inertia.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.gurtus.inertia.runtime.InertiaHelper;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+
+public class InertiaViteManifestTest {
+
+    // _a and _b import each other, dynamic imports are not preloaded
+    static final String MANIFEST = """
+            {
+              "frontend/main.ts": {
+                "file": "assets/main.js",
+                "isEntry": true,
+                "css": ["assets/main.css"],
+                "imports": ["_a.js", "_vendor.js"],
+                "dynamicImports": ["_lazy.js"]
+              },
+              "_a.js": {"file": "assets/a.js", "css": ["assets/a.css"], "imports": ["_b.js"]},
+              "_b.js": {"file": "assets/b.js", "imports": ["_a.js"]},
+              "_vendor.js": {"file": "assets/vendor.js", "css": ["assets/vendor.css"]},
+              "_lazy.js": {"file": "assets/lazy.js"},
+              "frontend/Pages/Users/Index.vue": {"file": "assets/Index.js", "imports": ["_vendor.js"]},
+              "frontend/components/Button.vue": {"file": "assets/Button.js"}
+            }
+            """;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(TestInertiaResource.class)
+                    .addAsResource(new StringAsset(MANIFEST), "META-INF/resources/.vite/manifest.json"))
+            .overrideConfigKey("quarkus.inertia.vite-base", "/build");
+
+    @Inject
+    InertiaHelper inertiaHelper;
+
+    @Inject
+    Engine quteEngine;
+
+    @Test
+    public void entryTagsIncludeTransitiveStylesheetsAndImports() {
+        assertEquals("""
+                <link rel="stylesheet" href="/build/assets/main.css">
+                <link rel="stylesheet" href="/build/assets/a.css">
+                <link rel="stylesheet" href="/build/assets/vendor.css">
+                <link rel="modulepreload" href="/build/assets/a.js">
+                <link rel="modulepreload" href="/build/assets/b.js">
+                <link rel="modulepreload" href="/build/assets/vendor.js">
+                <script type="module" src="/build/assets/main.js"></script>""",
+                inertiaHelper.viteTags("frontend/main.ts"));
+    }
+
+    @Test
+    public void pageTagsPreloadTheChunkOfTheComponent() {
+        assertEquals("""
+                <link rel="stylesheet" href="/build/assets/vendor.css">
+                <link rel="modulepreload" href="/build/assets/vendor.js">
+                <link rel="modulepreload" href="/build/assets/Index.js">""",
+                inertiaHelper.vitePageTags("Users/Index"));
+    }
+
+    @Test
+    public void sourcesOutsideThePagePatternAreNotComponents() {
+        assertEquals("", inertiaHelper.vitePageTags("Button"));
+        assertEquals("", inertiaHelper.vitePageTags("components/Button"));
+        assertEquals("", inertiaHelper.vitePageTags("Users/Index.vue"));
+        assertEquals("", inertiaHelper.viteTags("frontend/missing.ts"));
+    }
+
+    @Test
+    public void tagsArePrintedRawByTemplates() {
+        String html = quteEngine.parse("{inertiaHelper.viteTags('frontend/main.ts').raw}")
+                .data("inertiaHelper", inertiaHelper)
+                .render();
+
+        assertEquals(inertiaHelper.viteTags("frontend/main.ts"), html);
+    }
+}
@@ -0,0 +1,227 @@
+package com.gurtus.inertia.deployment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stub SSR servers for the tests, each node answering on {@code /{node}/render} and {@code /{node}/health}.
+ * Nodes render successfully until told to fail or to answer after the SSR timeout.
+ * <p>
+ * The server listens on a random port for the whole test run. Test classes are loaded both by JUnit and by
+ * the Quarkus application class loader, so the first one starts the server and publishes its port in a system
+ * property, and nodes are always controlled over HTTP on {@code /{node}/stub}.
+ */
+final class SsrStubServer {
+
+    private static final String PORT_PROPERTY = "inertia.test.ssr-stub-port";
+
+    static final long SLOW_MILLIS = 2000;
+
+    static final String TEMPLATE = """
+            <!DOCTYPE html>
+            <html>
+            <head>{#if ssrHead}{ssrHead.raw}{/if}</head>
+            <body>{#if ssrBody}{ssrBody.raw}{#else}<div id="app" data-page='{pageJson}'></div>{/if}</body>
+            </html>
+            """;
+
+    enum Mode {
+        OK, FAIL, SLOW
+    }
+
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+    private SsrStubServer() {
+    }
+
+    static String url(String node) {
+        return "http://localhost:" + port() + "/" + node;
+    }
+
+    private static synchronized int port() {
+        String port = System.getProperty(PORT_PROPERTY);
+        if (port == null) {
+            port = String.valueOf(start());
+            System.setProperty(PORT_PROPERTY, port);
+        }
+        return Integer.parseInt(port);
+    }
+
+    private static int start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            Map<String, NodeState> nodes = new ConcurrentHashMap<>();
+            server.createContext("/", exchange -> handle(exchange, nodes));
+            // Slow nodes hold their thread, the others must keep answering
+            server.setExecutor(Executors.newCachedThreadPool(SsrStubServer::daemon));
+            // The dispatcher thread inherits the daemon flag, the server must not keep the JVM running
+            Thread starter = daemon(server::start);
+            starter.start();
+            starter.join();
+            return server.getAddress().getPort();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot start the SSR stub server", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Thread daemon(Runnable runnable) {
+        Thread thread = new Thread(runnable, "ssr-stub");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Wait for a condition driven by timers, e.g. the health probes of the circuit breakers.
+     */
+    static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Condition not met within 10s");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    static Node node(String name) {
+        return new Node(name);
+    }
+
+    /**
+     * Make the nodes render successfully again and reset their render counts.
+     */
+    static void reset(String... names) {
+        for (String name : names) {
+            node(name).control("DELETE", "");
+        }
+    }
+
+    private static void handle(HttpExchange exchange, Map<String, NodeState> nodes) throws IOException {
+        try (exchange) {
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            NodeState node = nodes.computeIfAbsent(path[1], name -> new NodeState());
+
+            switch (path[2]) {
+                case "health" -> respond(exchange, node.healthy ? 200 : 503, "");
+                case "render" -> {
+                    exchange.getRequestBody().readAllBytes();
+                    node.renders.incrementAndGet();
+                    if (node.mode == Mode.FAIL) {
+                        respond(exchange, 500, "");
+                        return;
+                    }
+                    if (node.mode == Mode.SLOW) {
+                        sleep(SLOW_MILLIS);
+                    }
+                    respond(exchange, 200, "{\"head\":[\"<title>" + path[1] + "</title>\"],"
+                            + "\"body\":\"<div id=\\\"app\\\">rendered by " + path[1] + "</div>\"}");
+                }
+                case "stub" -> {
+                    switch (exchange.getRequestMethod()) {
+                        case "PUT" -> {
+                            String[] state = exchange.getRequestURI().getQuery().split(",");
+                            node.mode = Mode.valueOf(state[0]);
+                            node.healthy = Boolean.parseBoolean(state[1]);
+                        }
+                        case "DELETE" -> nodes.remove(path[1]);
+                        default -> {
+                            // GET, the render count
+                        }
+                    }
+                    respond(exchange, 200, String.valueOf(node.renders.get()));
+                }
+                default -> respond(exchange, 404, "");
+            }
+        } catch (IOException e) {
+            // The client gave up waiting
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class NodeState {
+
+        final AtomicInteger renders = new AtomicInteger();
+        volatile Mode mode = Mode.OK;
+        volatile boolean healthy = true;
+    }
+
+    /**
+     * Controls a node of the stub server.
+     */
+    static final class Node {
+
+        private final String name;
+
+        private Node(String name) {
+            this.name = name;
+        }
+
+        void fail() {
+            set(Mode.FAIL, false);
+        }
+
+        void recover() {
+            set(Mode.OK, true);
+        }
+
+        void set(Mode mode, boolean healthy) {
+            control("PUT", "?" + mode + "," + healthy);
+        }
+
+        int renders() {
+            return Integer.parseInt(control("GET", ""));
+        }
+
+        private String control(String method, String query) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url(name) + "/stub" + query))
+                    .method(method, HttpRequest.BodyPublishers.noBody())
+                    .build();
+            try {
+                return CLIENT.send(request, HttpResponse.BodyHandlers.ofString()).body();
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot reach the SSR stub server", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
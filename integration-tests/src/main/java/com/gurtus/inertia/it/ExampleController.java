@@ -103,23 +103,4 @@ public class ExampleController extends InertiaController {
             )
         ));
     }
-
-    @Override
-    protected String getCurrentAction() {
-        // In a real implementation, this could be determined through:
-        // - JAX-RS annotations reflection
-        // - Request path analysis
-        // - Method name extraction
-        // For demo purposes, we'll use a simple approach
-        
-        // This is a simplified implementation for demonstration
-        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
-        for (StackTraceElement element : stack) {
-            if (element.getClassName().equals(this.getClass().getName()) && 
-                !element.getMethodName().equals("getCurrentAction")) {
-                return element.getMethodName();
-            }
-        }
-        return "index";
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.gurtus.inertia.runtime;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Build time configuration for Inertia.js integration.
+ */
+@ConfigMapping(prefix = "quarkus.inertia")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface InertiaBuildTimeConfig {
+
+    /**
+     * Classpath location of the Vite manifest, written by Vite when {@code build.manifest} is enabled.
+     */
+    @WithDefault("META-INF/resources/.vite/manifest.json")
+    String viteManifest();
+
+    /**
+     * Whether to derive the asset version from a hash of the Vite manifest when
+     * {@code quarkus.inertia.version} is not set, so every frontend build forces a reload.
+     */
+    @WithDefault("true")
+    boolean versionFromManifest();
+
+    /**
+     * Public path the Vite build is served from, prepended to the files of the manifest.
+     */
+    @WithDefault("/")
+    String viteBase();
+
+    /**
+     * Source path of page components in the Vite manifest, without file extension.
+     * Use the {component} placeholder for the component name, e.g. {@code frontend/Pages/Users/Index.tsx}
+     * is the chunk of the {@code Users/Index} component. The match is case-sensitive, like the page resolver.
+     */
+    @WithDefault("frontend/Pages/{component}")
+    String vitePagePattern();
+}
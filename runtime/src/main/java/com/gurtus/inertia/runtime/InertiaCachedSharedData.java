@@ -0,0 +1,160 @@
+package com.gurtus.inertia.runtime;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Shared data loaded rarely and cached for a TTL, e.g. navigation menus, feature flags or tenant settings.
+ * <p>
+ * Renders always read the current snapshot. Once the TTL has expired the snapshot is still served
+ * for up to the max staleness while it is refreshed in the background. Only data older than that,
+ * or data never loaded, is loaded on the rendering thread.
+ * A failed background refresh keeps the current snapshot.
+ * <p>
+ * Snapshots are ordered by the start of their load: a load only replaces data, or an invalidation,
+ * older than itself, so a slow refresh cannot overwrite data loaded or invalidated after it started.
+ */
+public class InertiaCachedSharedData implements Supplier<Map<String, Object>> {
+
+    private final Supplier<Map<String, Object>> loader;
+    private final long ttlNanos;
+    private final long maxStalenessNanos;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private volatile InertiaMetrics metrics;
+
+    /**
+     * @param loader loads the data
+     * @param ttlMillis time the data is served without refreshing it
+     * @param maxStalenessMillis time past the TTL the data is still served while it is refreshed
+     */
+    public InertiaCachedSharedData(Supplier<Map<String, Object>> loader, long ttlMillis, long maxStalenessMillis) {
+        this.loader = loader;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxStalenessMillis));
+    }
+
+    @Override
+    public Map<String, Object> get() {
+        Snapshot current = snapshot.get();
+        if (current == null || current.data == null) {
+            return loadNow(current);
+        }
+
+        long stalenessNanos = System.nanoTime() - current.loadStartedAt - ttlNanos;
+        if (stalenessNanos <= 0) {
+            return current.data;
+        }
+
+        if (stalenessNanos > maxStalenessNanos) {
+            return loadNow(current);
+        }
+
+        InertiaMetrics metrics = metrics();
+        if (metrics != null) {
+            metrics.recordSharedDataStaleRead(TimeUnit.NANOSECONDS.toMillis(stalenessNanos));
+        }
+        refreshAsync();
+        return current.data;
+    }
+
+    /**
+     * Drop the cached data, it is loaded again by the next render.
+     */
+    public void invalidate() {
+        // Loads started before are dropped when they complete
+        install(new Snapshot(null, System.nanoTime()));
+    }
+
+    private synchronized Map<String, Object> loadNow(Snapshot expired) {
+        // Another render may have loaded the data while waiting for the lock
+        Snapshot current = snapshot.get();
+        if (current != null && current != expired && current.data != null) {
+            return current.data;
+        }
+        return load().data;
+    }
+
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Infrastructure.getDefaultWorkerPool().execute(() -> {
+                try {
+                    load();
+                } catch (RuntimeException e) {
+                    // Keep serving the current snapshot, the next stale read tries again
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private Snapshot load() {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Map<String, Object> data = loader.get();
+            Snapshot loaded = new Snapshot(data != null ? Collections.unmodifiableMap(data) : Collections.emptyMap(),
+                    start);
+            install(loaded);
+            success = true;
+            return loaded;
+        } finally {
+            InertiaMetrics metrics = metrics();
+            if (metrics != null) {
+                metrics.recordSharedDataRefresh(success, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Replace the current snapshot unless it was loaded or invalidated after the given one started.
+     */
+    private void install(Snapshot next) {
+        Snapshot current;
+        do {
+            current = snapshot.get();
+            if (current != null && current.loadStartedAt - next.loadStartedAt >= 0) {
+                return;
+            }
+        } while (!snapshot.compareAndSet(current, next));
+    }
+
+    private InertiaMetrics metrics() {
+        InertiaMetrics current = metrics;
+        if (current == null) {
+            ArcContainer container = Arc.container();
+            if (container != null && container.isRunning()) {
+                current = container.instance(InertiaMetrics.class).get();
+                metrics = current;
+            }
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+
+        // Null once invalidated
+        private final Map<String, Object> data;
+        private final long loadStartedAt;
+
+        Snapshot(Map<String, Object> data, long loadStartedAt) {
+            this.data = data;
+            this.loadStartedAt = loadStartedAt;
+        }
+    }
+}
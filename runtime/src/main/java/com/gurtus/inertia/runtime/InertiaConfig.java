@@ -1,6 +1,9 @@
 package com.gurtus.inertia.runtime;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -47,17 +50,157 @@ public interface InertiaConfig {
     @WithDefault("http://127.0.0.1:13714")
     String ssrUrl();
 
+    /**
+     * URLs of several SSR servers to distribute renders across.
+     * Takes precedence over {@link #ssrUrl()} when set.
+     */
+    Optional<List<String>> ssrUrls();
+
+    /**
+     * How renders are distributed when several SSR servers are configured.
+     */
+    @WithDefault("round-robin")
+    SsrLoadBalancing ssrLoadBalancing();
+
     /**
      * SSR timeout in milliseconds.
      */
     @WithDefault("30000")
     int ssrTimeout();
+
+    /**
+     * The engine performing server-side rendering.
+     */
+    @WithDefault("http")
+    SsrEngine ssrEngine();
+
+    /**
+     * Path to the SSR bundle (an ES module exporting a {@code render(page)} function),
+     * required by the GraalJS engine.
+     */
+    Optional<String> ssrBundle();
+
+    /**
+     * Number of JavaScript contexts used by the GraalJS engine,
+     * i.e. the number of pages rendered in parallel.
+     */
+    @WithDefault("4")
+    int ssrContextPoolSize();
+
+    /**
+     * SSR connect timeout in milliseconds.
+     */
+    @WithDefault("5000")
+    int ssrConnectTimeout();
+
+    /**
+     * Maximum number of SSR renders in flight at the same time, whatever the engine.
+     */
+    @WithDefault("32")
+    int ssrMaxConcurrentRenders();
+
+    /**
+     * Maximum number of SSR renders waiting for a render in flight to complete.
+     * Renders beyond this limit are rendered client-side right away.
+     */
+    @WithDefault("64")
+    int ssrMaxQueuedRenders();
+
+    /**
+     * Number of connections to each SSR server, defaults to {@link #ssrMaxConcurrentRenders()}.
+     * With HTTP/1.1 renders beyond the pool size wait for a connection,
+     * with HTTP/2 renders are multiplexed over the pooled connections.
+     */
+    OptionalInt ssrConnectionPoolSize();
+
+    /**
+     * Whether to keep connections to the SSR server alive.
+     */
+    @WithDefault("true")
+    boolean ssrKeepAlive();
+
+    /**
+     * Time in seconds after which an idle kept-alive connection to the SSR server is closed.
+     */
+    @WithDefault("60")
+    int ssrKeepAliveTimeout();
+
+    /**
+     * HTTP protocol used to talk to the SSR server.
+     * {@code http-2} uses HTTP/2 with prior knowledge, which the SSR server must support.
+     */
+    @WithDefault("http-1-1")
+    SsrProtocol ssrProtocol();
+
+    /**
+     * Whether to stop sending renders to the SSR server after repeated failures
+     * and render client-side until the server is healthy again.
+     */
+    @WithDefault("true")
+    boolean ssrCircuitBreakerEnabled();
+
+    /**
+     * Number of consecutive failed SSR renders that open the circuit breaker.
+     */
+    @WithDefault("5")
+    int ssrCircuitBreakerFailureThreshold();
+
+    /**
+     * SSR renders taking longer than this many milliseconds count as failures.
+     * Not set by default, so only errors open the circuit breaker.
+     */
+    OptionalInt ssrCircuitBreakerSlowCallThreshold();
+
+    /**
+     * Interval in milliseconds between health probes while the circuit breaker is open.
+     * Once a probe succeeds the next render is a trial, closing the circuit or opening it again.
+     */
+    @WithDefault("5000")
+    int ssrCircuitBreakerProbeInterval();
+
+    /**
+     * Whether to cache SSR results of identical pages.
+     * Only enable this for pages whose SSR output depends on nothing but the page object.
+     */
+    @WithDefault("false")
+    boolean ssrCacheEnabled();
+
+    /**
+     * Maximum number of cached SSR results.
+     */
+    @WithDefault("1000")
+    long ssrCacheMaxSize();
+
+    /**
+     * Time in milliseconds after which a cached SSR result expires.
+     */
+    @WithDefault("60000")
+    long ssrCacheTtl();
+
+    /**
+     * Components whose SSR results are cached. All components are cached if not set.
+     */
+    Optional<Set<String>> ssrCacheComponents();
+
+    /**
+     * Components whose SSR results are never cached.
+     */
+    Optional<Set<String>> ssrCacheExcludedComponents();
     
     /**
      * Whether to use deep merging for shared data.
      */
     @WithDefault("false")
     boolean deepMergeSharedData();
+
+    /**
+     * Whether to serialize the props shared with {@code InertiaService.share} once and reuse the JSON
+     * on every request, until the shared props change.
+     * Shared values must not be modified after they have been shared.
+     * Ignored when deep merging shared data.
+     */
+    @WithDefault("false")
+    boolean serializeSharedPropsOnce();
     
     /**
      * Whether to encrypt the history state in the client.
@@ -72,15 +215,111 @@ public interface InertiaConfig {
     boolean clearHistory();
     
     /**
-     * Whether to use default render behavior.
+     * Whether to derive the component of endpoints rendering without one from the component path pattern,
+     * unless set with {@code @Inertia(component = ...)}.
      */
     @WithDefault("false")
     boolean defaultRender();
     
     /**
      * Component path resolver pattern.
-     * Use {path} and {action} placeholders.
+     * Use {path} and {action} placeholders, i.e. the controller name without its Controller suffix
+     * and the resource method name.
      */
     @WithDefault("{path}/{action}")
     String componentPathPattern();
-} 
\ No newline at end of file
+
+    /**
+     * Whether to pre-render the root template once per asset version and assemble HTML responses
+     * by splicing the page JSON and SSR output into it, instead of rendering the template per request.
+     * Only used if the template depends on nothing but {@code pageJson}, {@code ssrHead} and {@code ssrBody},
+     * and never in development mode.
+     */
+    @WithDefault("false")
+    boolean prerenderTemplate();
+
+    /**
+     * Whether to stream the page object of Inertia (XHR) responses directly
+     * to the client instead of serializing it to a String first.
+     * Reduces peak memory for pages with large props.
+     */
+    @WithDefault("false")
+    boolean streamJson();
+
+    /**
+     * Whether to stream first page loads: the root template up to the page data is flushed
+     * before the props are evaluated and the page is rendered server-side, so the browser
+     * starts loading the assets of the head early. Requires a root template supported by
+     * {@link #prerenderTemplate()}, and is never used in development mode. Errors after the
+     * head was sent can no longer change the response status: they are logged and the client
+     * gets a truncated page with status 200. Responses of {@code renderAsync} are not streamed.
+     */
+    @WithDefault("false")
+    boolean streamHtml();
+
+    /**
+     * Whether to send a 103 Early Hints response on first page loads, preloading the stylesheets and
+     * chunks of the rendered component from the Vite manifest while the page is being rendered.
+     * The final response carries the same {@code Link} header for clients and proxies ignoring 103 responses.
+     */
+    @WithDefault("false")
+    boolean earlyHints();
+
+    /**
+     * Whether to evaluate the lazy props of a page (e.g. optional and deferred props)
+     * in parallel instead of one after the other.
+     * Reactive endpoints rendering with {@code renderAsync} do not block the event loop while waiting.
+     */
+    @WithDefault("false")
+    boolean parallelPropEvaluation();
+
+    /**
+     * Maximum number of props evaluated in parallel, shared by all requests.
+     */
+    @WithDefault("8")
+    int propEvaluationParallelism();
+
+    /**
+     * Time in milliseconds the evaluation of all props of a page may take
+     * when evaluated in parallel, the render fails afterwards.
+     * Also bounds the time waited for async props.
+     */
+    @WithDefault("10000")
+    int propEvaluationTimeout();
+
+    /**
+     * Available SSR engines.
+     */
+    enum SsrEngine {
+        /**
+         * Send pages to a Node.js SSR server.
+         */
+        HTTP,
+        /**
+         * Render pages in-process with GraalJS.
+         */
+        GRAALJS
+    }
+
+    /**
+     * HTTP protocols available to talk to the SSR server.
+     */
+    enum SsrProtocol {
+        HTTP_1_1,
+        HTTP_2
+    }
+
+    /**
+     * Strategies distributing renders across several SSR servers.
+     */
+    enum SsrLoadBalancing {
+        /**
+         * Use the servers in turn.
+         */
+        ROUND_ROBIN,
+        /**
+         * Use the server with the fewest renders in flight.
+         */
+        LEAST_IN_FLIGHT
+    }
+}
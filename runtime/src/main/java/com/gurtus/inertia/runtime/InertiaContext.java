@@ -1,10 +1,15 @@
 package com.gurtus.inertia.runtime;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+
+import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
+import io.vertx.ext.web.RoutingContext;
+import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
 
 import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.UriInfo;
@@ -22,6 +27,23 @@ public class InertiaContext {
     @Context
     private UriInfo uriInfo;
     
+    @Context
+    private SimpleResourceInfo resourceInfo;
+    
+    @Inject
+    InertiaEndpoints endpoints;
+    
+    @Inject
+    CurrentVertxRequest currentVertxRequest;
+    
+    private InertiaRequest request;
+    
+    private Map<InertiaSharedData, InertiaSharedData.Evaluation> sharedDataEvaluations;
+    
+    private InertiaEndpoints.Endpoint endpoint;
+    
+    private boolean endpointResolved;
+    
     public HttpHeaders getHeaders() {
         return headers;
     }
@@ -30,8 +52,61 @@ public class InertiaContext {
         return uriInfo;
     }
     
+    /**
+     * Get the parsed Inertia headers of the current request.
+     * The descriptor stored by the Inertia filter is reused, otherwise the headers are parsed once.
+     */
+    public InertiaRequest getRequest() {
+        if (request == null) {
+            RoutingContext routingContext = currentVertxRequest != null ? currentVertxRequest.getCurrent() : null;
+            if (routingContext != null) {
+                request = routingContext.get(InertiaRequest.KEY);
+            }
+            if (request == null) {
+                request = InertiaRequest.from(name -> headers != null ? headers.getHeaderString(name) : null);
+            }
+        }
+        return request;
+    }
+    
+    /**
+     * Get the shared data evaluated during the current request,
+     * so suppliers and conditions run at most once per request.
+     */
+    public Map<InertiaSharedData, InertiaSharedData.Evaluation> getSharedDataEvaluations() {
+        if (sharedDataEvaluations == null) {
+            sharedDataEvaluations = new IdentityHashMap<>();
+        }
+        return sharedDataEvaluations;
+    }
+    
+    /**
+     * Get the Inertia endpoint handling the current request, resolved from the matched resource method.
+     * 
+     * @return null if the request is not handled by a known Inertia endpoint
+     */
+    public InertiaEndpoints.Endpoint getEndpoint() {
+        if (!endpointResolved) {
+            endpointResolved = true;
+            if (resourceInfo != null && resourceInfo.getResourceClass() != null) {
+                endpoint = endpoints.find(resourceInfo.getResourceClass(), resourceInfo.getMethodName());
+            }
+        }
+        return endpoint;
+    }
+    
+    /**
+     * Get the action name of the current request, i.e. the name of the resource method.
+     * 
+     * @return null if the request is not handled by a known Inertia endpoint
+     */
+    public String getCurrentAction() {
+        InertiaEndpoints.Endpoint current = getEndpoint();
+        return current != null ? current.getAction() : null;
+    }
+    
     public boolean isInertiaRequest() {
-        return headers != null && "true".equals(headers.getHeaderString(InertiaHeaders.X_INERTIA));
+        return getRequest().isInertia();
     }
     
     public String getRequestUri() {
@@ -39,38 +114,26 @@ public class InertiaContext {
     }
     
     public String getInertiaVersion() {
-        return headers != null ? headers.getHeaderString(InertiaHeaders.X_INERTIA_VERSION) : null;
+        return getRequest().getVersion();
     }
     
     public String getPartialComponent() {
-        return headers != null ? headers.getHeaderString(InertiaHeaders.X_INERTIA_PARTIAL_COMPONENT) : null;
+        return getRequest().getPartialComponent();
     }
     
     public List<String> getPartialData() {
-        String partialData = headers != null ? headers.getHeaderString(InertiaHeaders.X_INERTIA_PARTIAL_DATA) : null;
-        if (partialData == null || partialData.trim().isEmpty()) {
-            return Collections.emptyList();
-        }
-        return Arrays.asList(partialData.split(","));
+        return getRequest().getPartialData();
     }
     
     public List<String> getPartialExcept() {
-        String partialExcept = headers != null ? headers.getHeaderString(InertiaHeaders.X_INERTIA_PARTIAL_EXCEPT) : null;
-        if (partialExcept == null || partialExcept.trim().isEmpty()) {
-            return Collections.emptyList();
-        }
-        return Arrays.asList(partialExcept.split(","));
+        return getRequest().getPartialExcept();
     }
     
     public List<String> getResetKeys() {
-        String resetKeys = headers != null ? headers.getHeaderString(InertiaHeaders.X_INERTIA_RESET) : null;
-        if (resetKeys == null || resetKeys.trim().isEmpty()) {
-            return Collections.emptyList();
-        }
-        return Arrays.asList(resetKeys.split(","));
+        return getRequest().getResetKeys();
     }
     
     public boolean isPartialReload() {
-        return getPartialComponent() != null;
+        return getRequest().isPartialReload();
     }
 } 
\ No newline at end of file
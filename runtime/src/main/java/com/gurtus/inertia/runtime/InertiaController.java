@@ -20,6 +20,9 @@ public abstract class InertiaController {
     @Inject
     protected InertiaSession inertiaSession;
 
+    @Inject
+    protected InertiaContext inertiaContext;
+
     /**
      * Render an Inertia component.
      */
@@ -34,6 +37,14 @@ public abstract class InertiaController {
         return inertiaService.buildResponse(component, props, this, getCurrentAction());
     }
 
+    /**
+     * Render the component of the current endpoint with props: the component set with {@link Inertia#component()}
+     * or, with {@code quarkus.inertia.default-render} enabled, the component derived from the component path pattern.
+     */
+    protected Response render(Map<String, Object> props) {
+        return inertiaService.buildResponse(null, props, this, getCurrentAction());
+    }
+
     /**
      * Create an Inertia response builder for fluent API.
      */
@@ -100,12 +111,11 @@ public abstract class InertiaController {
 
     /**
      * Get the current action name.
-     * Override this method to provide the actual action name.
+     * Defaults to the name of the resource method handling the request, discovered at build time.
      */
     protected String getCurrentAction() {
-        // Default implementation - should be overridden by subclasses
-        // or determined through reflection/annotations
-        return "index";
+        String action = inertiaContext.getCurrentAction();
+        return action != null ? action : "index";
     }
 
     /**
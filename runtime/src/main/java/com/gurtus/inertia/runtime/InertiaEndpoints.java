@@ -0,0 +1,119 @@
+package com.gurtus.inertia.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Lookup table of the Inertia endpoints discovered at build time,
+ * i.e. resource methods of {@link InertiaController} subclasses and methods annotated with {@link Inertia}.
+ * Action and component names are precomputed, so no reflection is needed on the request path.
+ */
+@ApplicationScoped
+public class InertiaEndpoints {
+
+    // Endpoints by declaring class name, then method name, so lookups don't build keys
+    private volatile Map<String, Map<String, Endpoint>> endpoints = Collections.emptyMap();
+
+    /**
+     * Register the discovered endpoints, keyed by {@code declaringClass#method}.
+     * Called by the recorder at startup.
+     */
+    public void register(Map<String, String> actions, Map<String, String> controllerPaths, Map<String, String> components) {
+        Map<String, Map<String, Endpoint>> registered = new HashMap<>();
+        for (Map.Entry<String, String> entry : actions.entrySet()) {
+            String key = entry.getKey();
+            int separator = key.lastIndexOf('#');
+            registered.computeIfAbsent(key.substring(0, separator), k -> new HashMap<>())
+                    .put(key.substring(separator + 1),
+                            new Endpoint(entry.getValue(), controllerPaths.get(key), components.get(key)));
+        }
+        this.endpoints = Collections.unmodifiableMap(registered);
+    }
+
+    /**
+     * Get the endpoint implemented by the given method.
+     *
+     * @return null if the method is not a known Inertia endpoint
+     */
+    public Endpoint get(Class<?> declaringClass, String methodName) {
+        Map<String, Endpoint> methods = endpoints.get(declaringClass.getName());
+        return methods != null ? methods.get(methodName) : null;
+    }
+
+    /**
+     * Get the endpoint implemented by the given method of a resource class,
+     * looking the method up in the superclasses if it is inherited.
+     *
+     * @return null if the method is not a known Inertia endpoint
+     */
+    public Endpoint find(Class<?> resourceClass, String methodName) {
+        for (Class<?> type = resourceClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            Endpoint endpoint = get(type, methodName);
+            if (endpoint != null) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    public static String key(String declaringClass, String methodName) {
+        return declaringClass + '#' + methodName;
+    }
+
+    /**
+     * Precomputed metadata of an Inertia endpoint.
+     */
+    public static final class Endpoint {
+
+        private final String action;
+        private final String controllerPath;
+        private final String component;
+        // Resolved from the component path pattern on first use, the pattern is runtime configuration
+        private volatile String defaultComponent;
+
+        Endpoint(String action, String controllerPath, String component) {
+            this.action = action;
+            this.controllerPath = controllerPath;
+            this.component = component;
+        }
+
+        /**
+         * The action name, i.e. the method name, used by action filters of shared data.
+         */
+        public String getAction() {
+            return action;
+        }
+
+        /**
+         * The controller name without its {@code Controller} suffix, the {@code {path}} of the component path pattern.
+         */
+        public String getControllerPath() {
+            return controllerPath;
+        }
+
+        /**
+         * The component set with {@link Inertia#component()}, null if not set.
+         */
+        public String getComponent() {
+            return component;
+        }
+
+        /**
+         * The component derived from the controller path and the action with the given pattern,
+         * e.g. {@code Users/index} for {@code {path}/{action}}.
+         */
+        public String getDefaultComponent(String pattern) {
+            String resolved = defaultComponent;
+            if (resolved == null) {
+                resolved = pattern
+                        .replace("{path}", controllerPath != null ? controllerPath : "")
+                        .replace("{action}", action);
+                defaultComponent = resolved;
+            }
+            return resolved;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.Session;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -25,11 +26,28 @@ public class InertiaFilter {
     private static final List<Integer> REDIRECT_STATUS_CODES = Arrays.asList(301, 302);
     private static final List<String> NON_GET_REDIRECTABLE_METHODS = Arrays.asList("PUT", "PATCH", "DELETE");
 
+    // Set by handle() on Inertia requests with a stale version, so the response does not check the version again
+    private static final String STALE_VERSION_KEY = InertiaFilter.class.getName() + ".staleVersion";
+
+    // Server version parsed once, the configured version does not change at runtime
+    private String serverVersion;
+    private double numericServerVersion;
+
+    @PostConstruct
+    void init() {
+        this.serverVersion = config.version().orElse("1");
+        this.numericServerVersion = parseNumericVersion(serverVersion);
+    }
+
     /**
      * Handle the enhanced Inertia middleware logic.
      * This should be called before processing the actual request.
      */
     public boolean handle(RoutingContext context) {
+        // Parse the Inertia headers once, the descriptor is shared with the rest of the request
+        InertiaRequest request = InertiaRequest.from(context.request()::getHeader);
+        context.put(InertiaRequest.KEY, request);
+
         // Copy XSRF token to CSRF token for Inertia requests
         copyXsrfToCsrf(context);
         
@@ -38,9 +56,12 @@ public class InertiaFilter {
             return true; // Continue processing
         }
 
-        // Check for stale version on GET requests
-        if (isGetRequest(context) && isVersionStale(context)) {
-            return forceRefresh(context);
+        // The version is checked once per request, stale GET requests reload the page
+        if (isVersionStale(context)) {
+            context.put(STALE_VERSION_KEY, Boolean.TRUE);
+            if (isGetRequest(context)) {
+                return forceRefresh(context);
+            }
         }
 
         return true; // Continue processing
@@ -70,8 +91,17 @@ public class InertiaFilter {
         }
     }
 
+    private InertiaRequest getInertiaRequest(RoutingContext context) {
+        InertiaRequest request = context.get(InertiaRequest.KEY);
+        if (request == null) {
+            request = InertiaRequest.from(context.request()::getHeader);
+            context.put(InertiaRequest.KEY, request);
+        }
+        return request;
+    }
+
     private boolean isInertiaRequest(RoutingContext context) {
-        return "true".equals(context.request().getHeader(InertiaHeaders.X_INERTIA));
+        return getInertiaRequest(context).isInertia();
     }
 
     private boolean isGetRequest(RoutingContext context) {
@@ -79,33 +109,35 @@ public class InertiaFilter {
     }
 
     private boolean isVersionStale(RoutingContext context) {
-        String clientVersion = context.request().getHeader(InertiaHeaders.X_INERTIA_VERSION);
-        String serverVersion = config.version().orElse("1");
-        
-        return !coerceVersion(clientVersion, serverVersion).equals(coerceVersion(serverVersion, serverVersion));
+        String clientVersion = getInertiaRequest(context).getVersion();
+
+        // Fast path, the client sends back the version it got from the server
+        if (serverVersion.equals(clientVersion)) {
+            return false;
+        }
+        if (clientVersion == null) {
+            return !"null".equals(serverVersion);
+        }
+        if (Double.isNaN(numericServerVersion)) {
+            return true;
+        }
+
+        // Numeric server version, compare numerically so e.g. "1" and "1.0" match
+        try {
+            return Double.compare(Double.parseDouble(clientVersion), numericServerVersion) != 0;
+        } catch (NumberFormatException e) {
+            return !clientVersion.equals(String.valueOf(numericServerVersion));
+        }
     }
 
     /**
-     * Coerce version to proper type for comparison.
-     * If server version is numeric, convert client version to numeric too.
+     * Parse the server version once, NaN if it is not numeric.
      */
-    private String coerceVersion(String version, String serverVersion) {
-        if (version == null) {
-            return "null";
-        }
-        
-        // Try to determine if server version is numeric
+    private static double parseNumericVersion(String version) {
         try {
-            Double.parseDouble(serverVersion);
-            // Server version is numeric, try to convert client version
-            try {
-                return String.valueOf(Double.parseDouble(version));
-            } catch (NumberFormatException e) {
-                return version; // Keep as string if conversion fails
-            }
+            return Double.parseDouble(version);
         } catch (NumberFormatException e) {
-            // Server version is not numeric, keep as string
-            return version;
+            return Double.NaN;
         }
     }
 
@@ -154,7 +186,7 @@ public class InertiaFilter {
     }
 
     private boolean isStaleInertiaRequest(RoutingContext context) {
-        return isInertiaRequest(context) && isVersionStale(context);
+        return context.get(STALE_VERSION_KEY) != null;
     }
 
     private void cleanupInertiaSession(RoutingContext context) {
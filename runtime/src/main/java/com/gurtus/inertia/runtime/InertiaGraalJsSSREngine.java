@@ -0,0 +1,279 @@
+package com.gurtus.inertia.runtime;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.AccessMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.LinkOption;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileAttribute;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.io.FileSystem;
+import org.graalvm.polyglot.io.IOAccess;
+import org.graalvm.polyglot.proxy.ProxyExecutable;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * SSR engine running the Vite SSR bundle in-process with GraalJS.
+ * <p>
+ * The bundle must be an ES module exporting a {@code render(page)} function (or a default export)
+ * returning {@code { head, body }} or a Promise of it, e.g. the function passed to
+ * {@code createServer} in a regular Inertia SSR entry point.
+ * There is no event loop: GraalJS runs the pending Promise jobs before {@code render} returns,
+ * so a Promise waiting for timers or I/O has not settled by then and the render fails.
+ * <p>
+ * The bundle may only read files of its own directory, e.g. the chunks it imports,
+ * so it must be built with its dependencies bundled ({@code ssr.noExternal}).
+ * A fixed pool of JavaScript contexts shares one polyglot engine, so the bundle is parsed once
+ * and each context renders one page at a time on a worker thread.
+ * <p>
+ * Requires {@code org.graalvm.polyglot:polyglot} and {@code org.graalvm.polyglot:js} on the classpath.
+ */
+public class InertiaGraalJsSSREngine implements InertiaSSREngine {
+
+    private final Engine engine;
+    private final IOAccess ioAccess;
+    private final BlockingQueue<RenderContext> pool;
+    private final List<RenderContext> contexts = new ArrayList<>();
+    private final long timeoutMillis;
+
+    public InertiaGraalJsSSREngine(String bundle, int poolSize, long timeoutMillis) {
+        this.engine = Engine.newBuilder()
+                .option("engine.WarnInterpreterOnly", "false")
+                .build();
+        this.timeoutMillis = timeoutMillis;
+
+        Source source;
+        try {
+            File bundleFile = new File(bundle);
+            source = Source.newBuilder("js", bundleFile)
+                    .mimeType("application/javascript+module")
+                    .build();
+            this.ioAccess = IOAccess.newBuilder()
+                    .fileSystem(FileSystem.allowLanguageHomeAccess(
+                            new BundleFileSystem(bundleFile.getAbsoluteFile().getParentFile().toPath())))
+                    .build();
+        } catch (IOException e) {
+            engine.close();
+            throw new IllegalStateException("Unable to read SSR bundle '" + bundle + "'", e);
+        }
+
+        int size = Math.max(1, poolSize);
+        this.pool = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            RenderContext context = new RenderContext(engine, ioAccess, source);
+            contexts.add(context);
+            pool.add(context);
+        }
+    }
+
+    @Override
+    public Uni<InertiaSSRService.SSRResponse> render(byte[] pageJson) {
+        // Rendering blocks the thread, keep it off the event loop
+        return Uni.createFrom().item(() -> renderBlocking(new String(pageJson, StandardCharsets.UTF_8)))
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .onFailure().recoverWithItem(e -> InertiaSSRService.SSRResponse.failure("SSR render failed: " + e.getMessage()));
+    }
+
+    private InertiaSSRService.SSRResponse renderBlocking(String pageJson) {
+        RenderContext context;
+        try {
+            context = pool.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return InertiaSSRService.SSRResponse.failure("Interrupted while waiting for an SSR context");
+        }
+        if (context == null) {
+            return InertiaSSRService.SSRResponse.failure("No SSR context available");
+        }
+
+        try {
+            return context.render(pageJson);
+        } finally {
+            pool.offer(context);
+        }
+    }
+
+    @Override
+    public Uni<Boolean> isAvailable() {
+        return Uni.createFrom().item(!contexts.isEmpty());
+    }
+
+    @Override
+    public void close() {
+        for (RenderContext context : contexts) {
+            context.close();
+        }
+        engine.close();
+    }
+
+    private static final class RenderContext {
+
+        private final Context context;
+        private final Value parseJson;
+        private final Value render;
+
+        RenderContext(Engine engine, IOAccess ioAccess, Source source) {
+            this.context = Context.newBuilder("js")
+                    .engine(engine)
+                    .allowIO(ioAccess)
+                    .allowExperimentalOptions(true)
+                    .option("js.esm-eval-returns-exports", "true")
+                    .build();
+            this.parseJson = context.eval("js", "(json) => JSON.parse(json)");
+
+            Value exports = context.eval(source);
+            Value renderFunction = exports.getMember("render");
+            if (renderFunction == null || !renderFunction.canExecute()) {
+                renderFunction = exports.getMember("default");
+            }
+            if (renderFunction == null || !renderFunction.canExecute()) {
+                context.close();
+                throw new IllegalStateException("SSR bundle must export a render(page) function");
+            }
+            this.render = renderFunction;
+        }
+
+        InertiaSSRService.SSRResponse render(String pageJson) {
+            Value result = render.execute(parseJson.execute(pageJson));
+
+            if (result.hasMember("then")) {
+                // Promise jobs are run before execute returns, so a resolved render is available right away
+                CompletableFuture<Value> resolved = new CompletableFuture<>();
+                result.invokeMember("then",
+                        (ProxyExecutable) args -> resolved.complete(args[0]),
+                        (ProxyExecutable) args -> resolved.completeExceptionally(
+                                new IllegalStateException(args.length > 0 ? args[0].toString() : "rejected")));
+                if (!resolved.isDone()) {
+                    return InertiaSSRService.SSRResponse.failure(
+                            "SSR render did not complete, its Promise waits for a timer or I/O and GraalJS has no event loop");
+                }
+                result = resolved.join();
+            }
+
+            return toResponse(result);
+        }
+
+        private InertiaSSRService.SSRResponse toResponse(Value result) {
+            Value body = result.getMember("body");
+            Value head = result.getMember("head");
+
+            String headHtml = "";
+            if (head != null && head.hasArrayElements()) {
+                StringBuilder headBuilder = new StringBuilder();
+                for (long i = 0; i < head.getArraySize(); i++) {
+                    headBuilder.append(head.getArrayElement(i).asString());
+                }
+                headHtml = headBuilder.toString();
+            } else if (head != null && head.isString()) {
+                headHtml = head.asString();
+            }
+
+            return InertiaSSRService.SSRResponse.success(body != null && body.isString() ? body.asString() : "", headHtml);
+        }
+
+        void close() {
+            context.close();
+        }
+    }
+
+    /**
+     * Read-only file system limited to the directory of the bundle.
+     */
+    private static final class BundleFileSystem implements FileSystem {
+
+        private final FileSystem delegate = FileSystem.newReadOnlyFileSystem(FileSystem.newDefaultFileSystem());
+        private final Path root;
+        private final Path realRoot;
+
+        BundleFileSystem(Path root) throws IOException {
+            this.root = root.normalize();
+            this.realRoot = root.toRealPath();
+            delegate.setCurrentWorkingDirectory(this.root);
+        }
+
+        private Path checked(Path path) throws IOException {
+            Path absolute = delegate.toAbsolutePath(path).normalize();
+            if (!absolute.startsWith(root) && !absolute.startsWith(realRoot)) {
+                throw new AccessDeniedException(path.toString(), null, "Outside of the SSR bundle directory");
+            }
+            return absolute;
+        }
+
+        @Override
+        public Path parsePath(URI uri) {
+            return delegate.parsePath(uri);
+        }
+
+        @Override
+        public Path parsePath(String path) {
+            return delegate.parsePath(path);
+        }
+
+        @Override
+        public void checkAccess(Path path, Set<? extends AccessMode> modes, LinkOption... linkOptions) throws IOException {
+            delegate.checkAccess(checked(path), modes, linkOptions);
+        }
+
+        @Override
+        public void createDirectory(Path dir, FileAttribute<?>... attrs) throws IOException {
+            delegate.createDirectory(checked(dir), attrs);
+        }
+
+        @Override
+        public void delete(Path path) throws IOException {
+            delegate.delete(checked(path));
+        }
+
+        @Override
+        public SeekableByteChannel newByteChannel(Path path, Set<? extends OpenOption> options, FileAttribute<?>... attrs)
+                throws IOException {
+            // Symbolic links must not lead out of the directory either
+            return delegate.newByteChannel(toRealPath(checked(path)), options, attrs);
+        }
+
+        @Override
+        public DirectoryStream<Path> newDirectoryStream(Path dir, DirectoryStream.Filter<? super Path> filter)
+                throws IOException {
+            return delegate.newDirectoryStream(checked(dir), filter);
+        }
+
+        @Override
+        public Path toAbsolutePath(Path path) {
+            return delegate.toAbsolutePath(path);
+        }
+
+        @Override
+        public Path toRealPath(Path path, LinkOption... linkOptions) throws IOException {
+            Path realPath = delegate.toRealPath(checked(path), linkOptions);
+            if (!realPath.startsWith(realRoot)) {
+                throw new AccessDeniedException(path.toString(), null, "Outside of the SSR bundle directory");
+            }
+            return realPath;
+        }
+
+        @Override
+        public Map<String, Object> readAttributes(Path path, String attributes, LinkOption... options) throws IOException {
+            return delegate.readAttributes(checked(path), attributes, options);
+        }
+    }
+}
@@ -13,6 +13,9 @@ public class InertiaHelper {
     @Inject
     InertiaContext context;
 
+    @Inject
+    InertiaViteManifest viteManifest;
+
     private String ssrHead;
     private boolean inertiaRendering = false;
 
@@ -88,6 +91,28 @@ public class InertiaHelper {
                 .replace("{action}", action != null ? action : "index");
     }
 
+    /**
+     * Get the tags loading a Vite entry point, e.g. {@code {inertiaHelper.viteTags('frontend/main.tsx').raw}}:
+     * its stylesheets, module preloads of the chunks it imports and its script.
+     * Empty if the entry point is not in the Vite manifest, e.g. in development mode.
+     */
+    public String viteTags(String entry) {
+        InertiaViteManifest.Chunk chunk = viteManifest.getChunk(entry);
+        return chunk != null ? chunk.getScriptTags() : "";
+    }
+
+    /**
+     * Get the tags preloading the chunk of a page component, e.g. {@code {inertiaHelper.vitePageTags(page.component).raw}},
+     * so the browser fetches the stylesheets and chunks of the page in parallel with the entry point.
+     * Empty if the component is not in the Vite manifest.
+     * <p>
+     * Templates printing the component are not pre-rendered, see {@link InertiaConfig#prerenderTemplate()}.
+     */
+    public String vitePageTags(String component) {
+        InertiaViteManifest.Chunk chunk = viteManifest.getComponent(component);
+        return chunk != null ? chunk.getPreloadTags() : "";
+    }
+
     /**
      * Check if SSR head content is available.
      */
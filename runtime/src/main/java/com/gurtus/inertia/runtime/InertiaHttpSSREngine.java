@@ -0,0 +1,254 @@
+package com.gurtus.inertia.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.RequestOptions;
+
+/**
+ * SSR engine sending pages to Node.js SSR servers (the Inertia {@code /render} endpoint)
+ * with the non-blocking Vert.x HTTP client.
+ * <p>
+ * When several servers are configured, renders are distributed across them and servers
+ * that keep failing or responding slowly are ejected until their {@code /health} endpoint
+ * reports them healthy again.
+ */
+public class InertiaHttpSSREngine implements InertiaSSREngine {
+
+    private static final int HEALTH_CHECK_TIMEOUT = 2000;
+
+    private final Vertx vertx;
+    private final InertiaConfig config;
+    private final ObjectMapper objectMapper;
+    private final InertiaMetrics metrics;
+    private final HttpClient httpClient;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final AtomicInteger nextEndpoint = new AtomicInteger();
+
+    public InertiaHttpSSREngine(Vertx vertx, InertiaConfig config, ObjectMapper objectMapper, InertiaMetrics metrics) {
+        this.vertx = vertx;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.httpClient = vertx.createHttpClient(createClientOptions(config));
+
+        List<String> urls = config.ssrUrls().filter(list -> !list.isEmpty()).orElse(List.of(config.ssrUrl()));
+        for (String url : urls) {
+            // A single server is guarded by the circuit breaker of the SSR service alone
+            InertiaSSRCircuitBreaker breaker = urls.size() > 1
+                    ? new InertiaSSRCircuitBreaker(config.ssrCircuitBreakerFailureThreshold(),
+                            config.ssrCircuitBreakerSlowCallThreshold().orElse(0))
+                    : null;
+            endpoints.add(new Endpoint(url, breaker));
+        }
+    }
+
+    private static HttpClientOptions createClientOptions(InertiaConfig config) {
+        int poolSize = config.ssrConnectionPoolSize().orElse(config.ssrMaxConcurrentRenders());
+        HttpClientOptions options = new HttpClientOptions()
+                .setConnectTimeout(config.ssrConnectTimeout())
+                .setMaxPoolSize(poolSize)
+                // The SSR service sends at most ssr-max-concurrent-renders requests, they may all wait for a connection
+                .setMaxWaitQueueSize(config.ssrMaxConcurrentRenders())
+                .setKeepAlive(config.ssrKeepAlive())
+                .setKeepAliveTimeout(config.ssrKeepAliveTimeout());
+
+        if (config.ssrProtocol() == InertiaConfig.SsrProtocol.HTTP_2) {
+            // Prior knowledge, the local SSR server is not reached through TLS/ALPN
+            options.setProtocolVersion(HttpVersion.HTTP_2)
+                    .setHttp2ClearTextUpgrade(false)
+                    .setHttp2MaxPoolSize(poolSize)
+                    .setHttp2MultiplexingLimit(config.ssrMaxConcurrentRenders())
+                    .setHttp2KeepAliveTimeout(config.ssrKeepAliveTimeout());
+        }
+        return options;
+    }
+
+    @Override
+    public Uni<InertiaSSRService.SSRResponse> render(byte[] pageJson) {
+        // Select on subscription, a trial must not be taken by a render that is never sent
+        return Uni.createFrom().deferred(() -> {
+            Endpoint trial = selectTrialEndpoint();
+            Endpoint endpoint = trial != null ? trial : selectEndpoint();
+            if (endpoint == null) {
+                return Uni.createFrom().item(InertiaSSRService.SSRResponse.failure("No healthy SSR server available"));
+            }
+
+            RequestOptions options = new RequestOptions()
+                    .setMethod(HttpMethod.POST)
+                    .setAbsoluteURI(endpoint.url + "/render")
+                    .putHeader("Content-Type", "application/json")
+                    .setTimeout(config.ssrTimeout());
+
+            endpoint.inFlight.incrementAndGet();
+            long start = System.nanoTime();
+            return Uni.createFrom().completionStage(() -> httpClient.request(options)
+                            .compose(request -> request.send(Buffer.buffer(pageJson)))
+                            .compose(response -> response.body().map(body -> {
+                                if (response.statusCode() == 200) {
+                                    return parseSSRResponse(body.toString(StandardCharsets.UTF_8));
+                                } else {
+                                    return InertiaSSRService.SSRResponse.failure("SSR server returned status: " + response.statusCode());
+                                }
+                            }))
+                            .toCompletionStage())
+                    .onFailure().recoverWithItem(e -> InertiaSSRService.SSRResponse.failure("SSR request failed: " + e.getMessage()))
+                    .invoke(response -> recordOutcome(endpoint, response.isSuccess(), System.nanoTime() - start))
+                    .onTermination().invoke((response, failure, cancelled) -> {
+                        endpoint.inFlight.decrementAndGet();
+                        if (response == null && trial != null) {
+                            abandonTrial(trial);
+                        }
+                    });
+        });
+    }
+
+    private Endpoint selectTrialEndpoint() {
+        // A server back from ejection gets its trial render first, or it would never rejoin the rotation
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isHalfOpen() && endpoint.breaker.acquirePermit() == InertiaSSRCircuitBreaker.Permit.TRIAL) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    private Endpoint selectEndpoint() {
+        if (config.ssrLoadBalancing() == InertiaConfig.SsrLoadBalancing.LEAST_IN_FLIGHT) {
+            Endpoint selected = null;
+            for (Endpoint endpoint : endpoints) {
+                if (endpoint.isHealthy() && (selected == null || endpoint.inFlight.get() < selected.inFlight.get())) {
+                    selected = endpoint;
+                }
+            }
+            return selected;
+        }
+
+        int size = endpoints.size();
+        int start = Math.floorMod(nextEndpoint.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Endpoint endpoint = endpoints.get((start + i) % size);
+            if (endpoint.isHealthy()) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    private void recordOutcome(Endpoint endpoint, boolean success, long durationNanos) {
+        if (endpoint.breaker != null && endpoint.breaker.record(success, durationNanos)) {
+            metrics.recordSsrEndpointEjected();
+            scheduleProbe(endpoint);
+        }
+    }
+
+    private void abandonTrial(Endpoint endpoint) {
+        // The trial was cancelled before the server answered, keep the server out until it is probed again
+        if (endpoint.breaker.abandonTrial()) {
+            scheduleProbe(endpoint);
+        }
+    }
+
+    private void scheduleProbe(Endpoint endpoint) {
+        vertx.setTimer(config.ssrCircuitBreakerProbeInterval(), id -> checkHealth(endpoint).subscribe().with(healthy -> {
+            if (!healthy) {
+                scheduleProbe(endpoint);
+            }
+        }));
+    }
+
+    private InertiaSSRService.SSRResponse parseSSRResponse(String responseBody) {
+        try {
+            JsonNode jsonNode = objectMapper.readTree(responseBody);
+
+            String body = jsonNode.has("body") ? jsonNode.get("body").asText() : "";
+            String head = "";
+
+            if (jsonNode.has("head")) {
+                JsonNode headNode = jsonNode.get("head");
+                if (headNode.isArray()) {
+                    StringBuilder headBuilder = new StringBuilder();
+                    for (JsonNode headItem : headNode) {
+                        headBuilder.append(headItem.asText());
+                    }
+                    head = headBuilder.toString();
+                } else {
+                    head = headNode.asText();
+                }
+            }
+
+            return InertiaSSRService.SSRResponse.success(body, head);
+        } catch (Exception e) {
+            return InertiaSSRService.SSRResponse.failure("Failed to parse SSR response: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Check the health of all SSR servers. Healthy ejected servers are put back into rotation.
+     *
+     * @return true if at least one server is healthy
+     */
+    @Override
+    public Uni<Boolean> isAvailable() {
+        List<Uni<Boolean>> checks = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            checks.add(checkHealth(endpoint));
+        }
+        return Uni.combine().all().unis(checks).with(results -> results.contains(Boolean.TRUE));
+    }
+
+    private Uni<Boolean> checkHealth(Endpoint endpoint) {
+        RequestOptions options = new RequestOptions()
+                .setMethod(HttpMethod.GET)
+                .setAbsoluteURI(endpoint.url + "/health")
+                .setTimeout(HEALTH_CHECK_TIMEOUT);
+
+        Uni<Boolean> available = Uni.createFrom().completionStage(() -> httpClient.request(options)
+                .compose(request -> request.send())
+                .compose(response -> response.body().map(body -> response.statusCode() == 200))
+                .toCompletionStage());
+        return available.onFailure().recoverWithItem(false)
+                .invoke(healthy -> {
+                    if (healthy && endpoint.breaker != null) {
+                        endpoint.breaker.halfOpen();
+                    }
+                });
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+
+    private static final class Endpoint {
+
+        private final String url;
+        private final InertiaSSRCircuitBreaker breaker;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        Endpoint(String url, InertiaSSRCircuitBreaker breaker) {
+            this.url = url;
+            this.breaker = breaker;
+        }
+
+        boolean isHealthy() {
+            return breaker == null || breaker.getState() == InertiaSSRCircuitBreaker.State.CLOSED;
+        }
+
+        boolean isHalfOpen() {
+            return breaker != null && breaker.getState() == InertiaSSRCircuitBreaker.State.HALF_OPEN;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.gurtus.inertia.runtime;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Counters describing the work done by the Inertia extension.
+ * The values are cumulative since startup and can be exported to any
+ * metrics system, e.g. by registering them as Micrometer gauges.
+ */
+@ApplicationScoped
+public class InertiaMetrics {
+
+    private final LongAdder renders = new LongAdder();
+    private final LongAdder pageSerializations = new LongAdder();
+    private final LongAdder serializedBytes = new LongAdder();
+    private final LongAdder ssrRenders = new LongAdder();
+    private final LongAdder ssrFailures = new LongAdder();
+    private final LongAdder ssrShortCircuited = new LongAdder();
+    private final LongAdder ssrRejected = new LongAdder();
+    private final LongAdder ssrEndpointEjections = new LongAdder();
+    private final LongAdder ssrCircuitTrips = new LongAdder();
+    private final LongAdder ssrCacheHits = new LongAdder();
+    private final LongAdder ssrCacheMisses = new LongAdder();
+    private final LongAdder ssrCacheEvictions = new LongAdder();
+    private final LongAdder sharedDataRefreshes = new LongAdder();
+    private final LongAdder sharedDataRefreshFailures = new LongAdder();
+    private final LongAdder sharedDataRefreshNanos = new LongAdder();
+    private final LongAdder sharedDataStaleReads = new LongAdder();
+    private final LongAccumulator sharedDataMaxStalenessMillis = new LongAccumulator(Long::max, 0);
+    private volatile boolean ssrCircuitOpen;
+
+    /**
+     * Record a rendered Inertia response.
+     */
+    public void recordRender() {
+        renders.increment();
+    }
+
+    /**
+     * Record a serialization of a page object.
+     */
+    public void recordPageSerialization(long bytes) {
+        pageSerializations.increment();
+        serializedBytes.add(bytes);
+    }
+
+    /**
+     * Record a render sent to the SSR server.
+     */
+    public void recordSsrRender(boolean success) {
+        ssrRenders.increment();
+        if (!success) {
+            ssrFailures.increment();
+        }
+    }
+
+    /**
+     * Record a render that skipped SSR because the circuit breaker was open.
+     */
+    public void recordSsrShortCircuited() {
+        ssrShortCircuited.increment();
+    }
+
+    /**
+     * Record a render that skipped SSR because too many renders were in flight.
+     */
+    public void recordSsrRejected() {
+        ssrRejected.increment();
+    }
+
+    /**
+     * Record an SSR server taken out of rotation after repeated failures.
+     */
+    public void recordSsrEndpointEjected() {
+        ssrEndpointEjections.increment();
+    }
+
+    /**
+     * Record a state change of the SSR circuit breaker.
+     */
+    public void recordSsrCircuitState(boolean open) {
+        if (open && !ssrCircuitOpen) {
+            ssrCircuitTrips.increment();
+        }
+        ssrCircuitOpen = open;
+    }
+
+    /**
+     * Record a lookup in the SSR cache.
+     */
+    public void recordSsrCacheLookup(boolean hit) {
+        if (hit) {
+            ssrCacheHits.increment();
+        } else {
+            ssrCacheMisses.increment();
+        }
+    }
+
+    /**
+     * Record an SSR result evicted from the cache.
+     */
+    public void recordSsrCacheEviction() {
+        ssrCacheEvictions.increment();
+    }
+
+    /**
+     * Record a refresh of cached shared data.
+     */
+    public void recordSharedDataRefresh(boolean success, long durationNanos) {
+        sharedDataRefreshes.increment();
+        sharedDataRefreshNanos.add(durationNanos);
+        if (!success) {
+            sharedDataRefreshFailures.increment();
+        }
+    }
+
+    /**
+     * Record a read of cached shared data past its TTL.
+     *
+     * @param stalenessMillis time since the TTL of the data expired
+     */
+    public void recordSharedDataStaleRead(long stalenessMillis) {
+        sharedDataStaleReads.increment();
+        sharedDataMaxStalenessMillis.accumulate(stalenessMillis);
+    }
+
+    /**
+     * Get the number of rendered Inertia responses.
+     */
+    public long getRenders() {
+        return renders.sum();
+    }
+
+    /**
+     * Get the number of page object serializations.
+     */
+    public long getPageSerializations() {
+        return pageSerializations.sum();
+    }
+
+    /**
+     * Get the total number of page JSON bytes serialized.
+     */
+    public long getSerializedBytes() {
+        return serializedBytes.sum();
+    }
+
+    /**
+     * Get the average number of page JSON bytes serialized per rendered response.
+     */
+    public double getSerializedBytesPerRender() {
+        long count = renders.sum();
+        return count == 0 ? 0 : (double) serializedBytes.sum() / count;
+    }
+
+    /**
+     * Get the number of renders sent to the SSR server.
+     */
+    public long getSsrRenders() {
+        return ssrRenders.sum();
+    }
+
+    /**
+     * Get the number of failed SSR renders.
+     */
+    public long getSsrFailures() {
+        return ssrFailures.sum();
+    }
+
+    /**
+     * Get the number of renders that skipped SSR because the circuit breaker was open.
+     */
+    public long getSsrShortCircuited() {
+        return ssrShortCircuited.sum();
+    }
+
+    /**
+     * Get the number of renders that skipped SSR because too many renders were in flight.
+     */
+    public long getSsrRejected() {
+        return ssrRejected.sum();
+    }
+
+    /**
+     * Get the number of times an SSR server was taken out of rotation.
+     */
+    public long getSsrEndpointEjections() {
+        return ssrEndpointEjections.sum();
+    }
+
+    /**
+     * Get the number of times the SSR circuit breaker has been opened.
+     */
+    public long getSsrCircuitTrips() {
+        return ssrCircuitTrips.sum();
+    }
+
+    /**
+     * Check if the SSR circuit breaker is currently open.
+     */
+    public boolean isSsrCircuitOpen() {
+        return ssrCircuitOpen;
+    }
+
+    /**
+     * Get the number of SSR cache hits.
+     */
+    public long getSsrCacheHits() {
+        return ssrCacheHits.sum();
+    }
+
+    /**
+     * Get the number of SSR cache misses.
+     */
+    public long getSsrCacheMisses() {
+        return ssrCacheMisses.sum();
+    }
+
+    /**
+     * Get the number of SSR results evicted from the cache.
+     */
+    public long getSsrCacheEvictions() {
+        return ssrCacheEvictions.sum();
+    }
+
+    /**
+     * Get the number of refreshes of cached shared data.
+     */
+    public long getSharedDataRefreshes() {
+        return sharedDataRefreshes.sum();
+    }
+
+    /**
+     * Get the number of failed refreshes of cached shared data.
+     */
+    public long getSharedDataRefreshFailures() {
+        return sharedDataRefreshFailures.sum();
+    }
+
+    /**
+     * Get the average duration of a refresh of cached shared data in milliseconds.
+     */
+    public double getSharedDataRefreshAverageMillis() {
+        long count = sharedDataRefreshes.sum();
+        return count == 0 ? 0 : (double) sharedDataRefreshNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Get the number of reads of cached shared data past its TTL.
+     */
+    public long getSharedDataStaleReads() {
+        return sharedDataStaleReads.sum();
+    }
+
+    /**
+     * Get the highest time past its TTL cached shared data has been read, in milliseconds.
+     */
+    public long getSharedDataMaxStalenessMillis() {
+        return sharedDataMaxStalenessMillis.get();
+    }
+}
@@ -1,23 +1,32 @@
 package com.gurtus.inertia.runtime;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.util.RawValue;
 
 /**
  * Represents an Inertia.js page object that gets serialized to JSON
  * for XHR requests or embedded in HTML for initial page loads.
  */
+@JsonPropertyOrder({ "component", "props", "url", "version" })
 public class InertiaPage {
     
     @JsonProperty("component")
     private String component;
     
-    @JsonProperty("props")
+    // Written to JSON through getSerializedProps
+    @JsonIgnore
     private Map<String, Object> props;
     
+    @JsonIgnore
+    private Map<Object, RawValue> serializedValues;
+    
     @JsonProperty("url")
     private String url;
     
@@ -70,6 +79,28 @@ public class InertiaPage {
         this.props = props;
     }
     
+    /**
+     * Set the JSON of prop values serialized ahead of time, keyed by the identity of the value.
+     * The props keep their actual values, e.g. for templates, the JSON is only used when serializing the page.
+     */
+    public void setSerializedValues(Map<Object, RawValue> serializedValues) {
+        this.serializedValues = serializedValues;
+    }
+    
+    @JsonProperty("props")
+    Map<String, Object> getSerializedProps() {
+        if (props == null || serializedValues == null || serializedValues.isEmpty()) {
+            return props;
+        }
+        
+        Map<String, Object> serialized = new HashMap<>((int) (props.size() / 0.75f) + 1);
+        for (Map.Entry<String, Object> entry : props.entrySet()) {
+            RawValue json = serializedValues.get(entry.getValue());
+            serialized.put(entry.getKey(), json != null ? json : entry.getValue());
+        }
+        return serialized;
+    }
+    
     public String getUrl() {
         return url;
     }
@@ -0,0 +1,70 @@
+package com.gurtus.inertia.runtime;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Streams an {@link InertiaPage} through a Jackson {@link JsonGenerator},
+ * so the page never has to be materialized as a single String before it is sent.
+ * The page is written by the {@link ObjectMapper} itself, so the output follows the mapping of {@link InertiaPage}.
+ */
+@ApplicationScoped
+public class InertiaPageWriter {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private ObjectWriter pageWriter;
+
+    @PostConstruct
+    void init() {
+        // Resolve the page serializer once instead of per write
+        this.pageWriter = objectMapper.writerFor(InertiaPage.class);
+    }
+
+    /**
+     * Write the page as UTF-8 JSON to the given stream.
+     * The stream is flushed but not closed.
+     *
+     * @return the number of bytes written
+     */
+    public long write(InertiaPage page, OutputStream output) throws IOException {
+        CountingOutputStream counting = new CountingOutputStream(output);
+        try (JsonGenerator generator = objectMapper.createGenerator(counting, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            pageWriter.writeValue(generator, page);
+        }
+        return counting.count;
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.gurtus.inertia.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.context.ThreadContext;
+
+import com.gurtus.inertia.runtime.props.BaseProp;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Evaluates the lazy props of a page in parallel on a bounded {@link ManagedExecutor},
+ * so a page with several slow props takes about as long as its slowest prop.
+ * {@link #evaluateAsync} waits for the evaluations without blocking, for the reactive render path.
+ * The executor propagates the CDI contexts of the rendering thread to the evaluations,
+ * so request scoped beans can be used from prop evaluators.
+ */
+@ApplicationScoped
+public class InertiaPropEvaluator {
+
+    @Inject
+    InertiaConfig config;
+
+    private volatile ManagedExecutor executor;
+
+    /**
+     * Evaluate the given props and put their values into the target map.
+     *
+     * @throws IllegalStateException if the evaluations exceed the configured deadline
+     */
+    public void evaluate(Map<String, BaseProp> props, Object controllerContext, Map<String, Object> target) {
+        if (props.size() < 2) {
+            for (Map.Entry<String, BaseProp> entry : props.entrySet()) {
+                target.put(entry.getKey(), entry.getValue().evaluate(controllerContext));
+            }
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(props.size());
+        List<Future<Object>> futures = new ArrayList<>(props.size());
+        ManagedExecutor executor = getExecutor();
+        for (Map.Entry<String, BaseProp> entry : props.entrySet()) {
+            BaseProp prop = entry.getValue();
+            keys.add(entry.getKey());
+            futures.add(executor.submit(() -> prop.evaluate(controllerContext)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.propEvaluationTimeout());
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                long remaining = deadline - System.nanoTime();
+                target.put(keys.get(i), futures.get(i).get(Math.max(0, remaining), TimeUnit.NANOSECONDS));
+            }
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Prop evaluation exceeded " + config.propEvaluationTimeout() + "ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Prop evaluation interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Prop evaluation failed", e.getCause());
+        } finally {
+            // Evaluations still running are not needed anymore once the render failed
+            for (Future<Object> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Evaluate the given props without blocking the calling thread, e.g. the event loop,
+     * and put their values into the target map once all are evaluated.
+     * The result is emitted on the Vert.x context of the caller, if any.
+     */
+    public Uni<Void> evaluateAsync(Map<String, BaseProp> props, Object controllerContext, Map<String, Object> target) {
+        if (props.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        List<String> keys = new ArrayList<>(props.size());
+        List<Uni<Object>> values = new ArrayList<>(props.size());
+        ManagedExecutor executor = getExecutor();
+        for (Map.Entry<String, BaseProp> entry : props.entrySet()) {
+            BaseProp prop = entry.getValue();
+            keys.add(entry.getKey());
+            values.add(Uni.createFrom().emitter(emitter -> {
+                AtomicBoolean done = new AtomicBoolean();
+                Future<?> future = executor.submit(() -> {
+                    try {
+                        Object value = prop.evaluate(controllerContext);
+                        done.set(true);
+                        emitter.complete(value);
+                    } catch (Throwable e) {
+                        done.set(true);
+                        emitter.fail(e);
+                    }
+                });
+                // Evaluations still running are not needed anymore once the render failed
+                emitter.onTermination(() -> {
+                    if (!done.get()) {
+                        future.cancel(true);
+                    }
+                });
+            }));
+        }
+
+        Uni<Void> evaluated = Uni.combine().all().unis(values).with(results -> {
+            for (int i = 0; i < keys.size(); i++) {
+                target.put(keys.get(i), results.get(i));
+            }
+            return null;
+        }).replaceWithVoid()
+                .ifNoItem().after(Duration.ofMillis(config.propEvaluationTimeout()))
+                .failWith(() -> new IllegalStateException("Prop evaluation exceeded " + config.propEvaluationTimeout() + "ms"));
+
+        Context vertxContext = Vertx.currentContext();
+        if (vertxContext == null) {
+            return evaluated;
+        }
+        return evaluated.emitOn(command -> vertxContext.runOnContext(ignored -> command.run()));
+    }
+
+    private ManagedExecutor getExecutor() {
+        ManagedExecutor current = executor;
+        if (current == null) {
+            synchronized (this) {
+                current = executor;
+                if (current == null) {
+                    current = ManagedExecutor.builder()
+                            .maxAsync(Math.max(1, config.propEvaluationParallelism()))
+                            // Request scoped beans used by prop evaluators belong to the request being rendered
+                            .propagated(ThreadContext.CDI)
+                            .cleared(ThreadContext.ALL_REMAINING)
+                            .build();
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.gurtus.inertia.runtime;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable set of dotted prop keys (e.g. from the {@code X-Inertia-Partial-Data} header)
+ * compiled into a character trie.
+ * Lookups walk the key once and never allocate, no matter how many keys the set contains.
+ */
+public final class InertiaPropKeySet {
+
+    public static final InertiaPropKeySet EMPTY = new InertiaPropKeySet(new Node(), 0);
+
+    private final Node root;
+    private final int size;
+
+    private InertiaPropKeySet(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Compile the given keys. Keys are trimmed and blank keys are ignored.
+     */
+    public static InertiaPropKeySet of(Collection<String> keys) {
+        Node root = new Node();
+        int size = 0;
+        for (String key : keys) {
+            String trimmed = key.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            Node node = root;
+            for (int i = 0; i < trimmed.length(); i++) {
+                node = node.getOrAddChild(trimmed.charAt(i));
+            }
+            if (!node.terminal) {
+                node.terminal = true;
+                size++;
+            }
+        }
+        return size == 0 ? EMPTY : new InertiaPropKeySet(root, size);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the set contains exactly the given key.
+     */
+    public boolean contains(String key) {
+        Node node = find(key, false);
+        return node != null && node.terminal;
+    }
+
+    /**
+     * Check if the set contains the given key or one of its dotted prefixes,
+     * e.g. {@code user} or {@code user.name} for the key {@code user.name}.
+     */
+    public boolean containsKeyOrPrefix(String key) {
+        Node node = find(key, true);
+        return node != null && node.terminal;
+    }
+
+    private Node find(String key, boolean stopAtPrefix) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (stopAtPrefix && c == '.' && node.terminal) {
+                return node;
+            }
+            node = node.child(c);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private static final class Node {
+
+        private char[] chars = new char[0];
+        private Node[] children = new Node[0];
+        private boolean terminal;
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(chars, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrAddChild(char c) {
+            int index = Arrays.binarySearch(chars, c);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            // Keep the children sorted for the binary search
+            int insertAt = -(index + 1);
+            char[] newChars = new char[chars.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(chars, 0, newChars, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(chars, insertAt, newChars, insertAt + 1, chars.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            Node child = new Node();
+            newChars[insertAt] = c;
+            newChildren[insertAt] = child;
+            chars = newChars;
+            children = newChildren;
+            return child;
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.gurtus.inertia.runtime;
 
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import com.gurtus.inertia.runtime.props.AlwaysProp;
+import com.gurtus.inertia.runtime.props.AsyncProp;
 import com.gurtus.inertia.runtime.props.DeferProp;
 import com.gurtus.inertia.runtime.props.MergeProp;
 import com.gurtus.inertia.runtime.props.OptionalProp;
 
+import io.smallrye.mutiny.Uni;
+
 /**
  * Helper class for creating different types of Inertia props.
  * Provides a fluent API similar to the Rails Inertia adapter.
@@ -209,4 +213,34 @@ public class InertiaProps {
     public static DeferProp defer(Function<Object, Object> evaluator, String group, boolean merge, boolean deepMerge) {
         return new DeferProp(evaluator, group, merge, deepMerge);
     }
+    
+    /**
+     * Create an async prop resolved without blocking.
+     * 
+     * @param evaluator Function returning a Uni of the prop value
+     * @return AsyncProp instance
+     */
+    public static AsyncProp async(Function<Object, Uni<?>> evaluator) {
+        return new AsyncProp(evaluator);
+    }
+    
+    /**
+     * Create an async prop with a supplier.
+     * 
+     * @param supplier Supplier of a Uni of the prop value
+     * @return AsyncProp instance
+     */
+    public static AsyncProp async(Supplier<Uni<?>> supplier) {
+        return new AsyncProp(supplier);
+    }
+    
+    /**
+     * Create an async prop from a CompletionStage supplier.
+     * 
+     * @param supplier Supplier of a CompletionStage of the prop value
+     * @return AsyncProp instance
+     */
+    public static AsyncProp asyncStage(Supplier<? extends CompletionStage<?>> supplier) {
+        return AsyncProp.fromCompletionStage(supplier);
+    }
 } 
\ No newline at end of file
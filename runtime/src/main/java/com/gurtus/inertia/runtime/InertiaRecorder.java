@@ -1,5 +1,10 @@
 package com.gurtus.inertia.runtime;
 
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
@@ -12,23 +17,36 @@ public class InertiaRecorder {
 
     /**
      * Create the Inertia filter handler.
+     * The filter bean is resolved once, the handler runs on the event loop before JAX-RS dispatch.
      */
     public Handler<RoutingContext> createInertiaFilter() {
+        InertiaFilter filter = Arc.container().instance(InertiaFilter.class).get();
         return new Handler<RoutingContext>() {
             @Override
             public void handle(RoutingContext context) {
-                InertiaFilter filter = context.get("inertiaFilter");
-                if (filter == null) {
-                    // Get the filter from CDI
-                    filter = io.quarkus.arc.Arc.container().instance(InertiaFilter.class).get();
-                    context.put("inertiaFilter", filter);
-                }
-                
                 if (filter.handle(context)) {
+                    // Adjust the response (303 redirects, session cleanup) right before its headers are sent
+                    context.addHeadersEndHandler(v -> filter.handleResponse(context, context.response().getStatusCode()));
                     context.next();
                 }
                 // If filter returns false, the response has already been sent
             }
         };
     }
-} 
\ No newline at end of file
+
+    /**
+     * Register the Inertia endpoints discovered at build time.
+     */
+    public void registerEndpoints(BeanContainer beanContainer, Map<String, String> actions,
+            Map<String, String> controllerPaths, Map<String, String> components) {
+        beanContainer.beanInstance(InertiaEndpoints.class).register(actions, controllerPaths, components);
+    }
+
+    /**
+     * Register the chunk graph read from the Vite manifest at build time.
+     */
+    public void registerViteManifest(BeanContainer beanContainer, Map<String, String> files,
+            Map<String, List<String>> stylesheets, Map<String, List<String>> imports, Map<String, String> components) {
+        beanContainer.beanInstance(InertiaViteManifest.class).register(files, stylesheets, imports, components);
+    }
+}
@@ -1,20 +1,36 @@
 package com.gurtus.inertia.runtime;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.logging.Logger;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.gurtus.inertia.runtime.props.BaseProp;
 import com.gurtus.inertia.runtime.props.DeferProp;
 
 import io.quarkus.qute.Engine;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
+import io.smallrye.mutiny.TimeoutException;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.RoutingContext;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
 /**
  * Enhanced Inertia renderer that supports advanced prop types and partial reloads.
@@ -22,6 +38,8 @@ import jakarta.ws.rs.core.Response;
 @ApplicationScoped
 public class InertiaRenderer {
 
+    private static final Logger LOG = Logger.getLogger(InertiaRenderer.class);
+
     @Inject
     InertiaConfig config;
 
@@ -43,18 +61,59 @@ public class InertiaRenderer {
     @Inject
     InertiaHelper inertiaHelper;
 
+    @Inject
+    InertiaPageWriter pageWriter;
+
+    @Inject
+    InertiaMetrics metrics;
+
+    @Inject
+    InertiaPropEvaluator propEvaluator;
+
+    @Inject
+    InertiaTemplateShells templateShells;
+
+    @Inject
+    InertiaViteManifest viteManifest;
+
+    @Inject
+    CurrentVertxRequest currentVertxRequest;
+
     /**
      * Render an Inertia response with advanced prop handling.
      */
     public Response render(String component, Map<String, Object> props, Map<String, Object> sharedProps, Object controllerContext) {
-        // Merge props with shared props
-        Map<String, Object> mergedProps = mergeProps(sharedProps, props);
-        
-        // Process props based on their types and current request context
-        Map<String, Object> processedProps = processProps(mergedProps, component, controllerContext);
-        
-        // Create the page object
-        InertiaPage page = createPage(component, processedProps, mergedProps);
+        return render(component, props, sharedProps, null, controllerContext);
+    }
+
+    /**
+     * Render an Inertia response, splicing the JSON of shared values serialized ahead of time into the page.
+     *
+     * @param serializedSharedValues JSON of shared values keyed by the identity of the value, may be null
+     */
+    public Response render(String component, Map<String, Object> props, Map<String, Object> sharedProps,
+            Map<Object, RawValue> serializedSharedValues, Object controllerContext) {
+        if (!context.isInertiaRequest()) {
+            sendEarlyHints(component);
+            byte[] head = templateShells.getStreamingPrefix();
+            if (head != null) {
+                return createStreamingHtmlResponse(head, component, props, sharedProps, serializedSharedValues,
+                        controllerContext);
+            }
+        }
+
+        InertiaPage page = buildPage(component, props, sharedProps, controllerContext);
+        page.setSerializedValues(serializedSharedValues);
+
+        // Async props block here, endpoints using them should prefer renderAsync
+        Uni<Void> asyncProps = resolveAsyncProps(page.getProps());
+        if (asyncProps != null) {
+            try {
+                asyncProps.await().atMost(propEvaluationTimeout());
+            } catch (TimeoutException e) {
+                return createAsyncPropsTimeoutResponse();
+            }
+        }
         
         // Check if this is an Inertia request
         if (context.isInertiaRequest()) {
@@ -64,55 +123,288 @@ public class InertiaRenderer {
         }
     }
 
-    private Map<String, Object> mergeProps(Map<String, Object> sharedProps, Map<String, Object> props) {
-        Map<String, Object> merged = new HashMap<>();
-        
-        if (sharedProps != null) {
-            if (config.deepMergeSharedData()) {
-                merged.putAll(deepMerge(sharedProps, new HashMap<>()));
-            } else {
-                merged.putAll(sharedProps);
+    /**
+     * Render an Inertia response without blocking the calling thread.
+     * SSR is performed on the Vert.x event loop, so RESTEasy Reactive endpoints
+     * can return the result directly.
+     */
+    public Uni<Response> renderAsync(String component, Map<String, Object> props, Map<String, Object> sharedProps, Object controllerContext) {
+        return renderAsync(component, props, sharedProps, null, controllerContext);
+    }
+
+    /**
+     * Render an Inertia response without blocking the calling thread,
+     * splicing the JSON of shared values serialized ahead of time into the page.
+     *
+     * @param serializedSharedValues JSON of shared values keyed by the identity of the value, may be null
+     */
+    public Uni<Response> renderAsync(String component, Map<String, Object> props, Map<String, Object> sharedProps,
+            Map<Object, RawValue> serializedSharedValues, Object controllerContext) {
+        if (!context.isInertiaRequest()) {
+            sendEarlyHints(component);
+        }
+        // Async props and the SSR client complete on other threads, the response is built back on the request context
+        Context requestContext = Vertx.currentContext();
+        // Lazy props evaluated in parallel are awaited without blocking the event loop
+        PageProps pageProps = collectProps(component, props, sharedProps, controllerContext);
+        return pageProps.evaluateLazyPropsAsync().flatMap(evaluated -> {
+            InertiaPage page = createPage(component, pageProps);
+            page.setSerializedValues(serializedSharedValues);
+            Uni<Void> asyncProps = resolveAsyncProps(page.getProps());
+            if (asyncProps == null) {
+                return respondAsync(page, requestContext);
             }
+            return emitOn(asyncProps.ifNoItem().after(propEvaluationTimeout()).fail(), requestContext)
+                    .onItemOrFailure().transformToUni((ignored, failure) -> {
+                        if (failure instanceof TimeoutException) {
+                            return Uni.createFrom().item(createAsyncPropsTimeoutResponse());
+                        }
+                        if (failure != null) {
+                            return Uni.createFrom().failure(failure);
+                        }
+                        return respondAsync(page, requestContext);
+                    });
+        });
+    }
+
+    /**
+     * Emit on the Vert.x context of the request, where its request context is active,
+     * so request scoped beans such as {@link InertiaHelper} can be used downstream.
+     */
+    private static <T> Uni<T> emitOn(Uni<T> uni, Context requestContext) {
+        if (requestContext == null) {
+            return uni;
         }
-        
-        if (props != null) {
-            if (config.deepMergeSharedData()) {
-                merged = deepMerge(merged, props);
-            } else {
-                merged.putAll(props);
+        return uni.emitOn(command -> requestContext.runOnContext(ignored -> command.run()));
+    }
+
+    private Duration propEvaluationTimeout() {
+        return Duration.ofMillis(config.propEvaluationTimeout());
+    }
+
+    private Response createAsyncPropsTimeoutResponse() {
+        return Response.serverError()
+                .entity("Async props not resolved within " + config.propEvaluationTimeout() + "ms")
+                .build();
+    }
+
+    /**
+     * Send the chunks of the component as 103 Early Hints, so the browser fetches them while the page is rendered.
+     * The precomputed {@code Link} header is also kept for the final response, the only one sent to HTTP/1.0 clients.
+     */
+    private void sendEarlyHints(String component) {
+        if (!config.earlyHints()) {
+            return;
+        }
+
+        InertiaViteManifest.Chunk chunk = viteManifest.getComponent(component);
+        RoutingContext routingContext = currentVertxRequest.getCurrent();
+        if (chunk == null || routingContext == null || routingContext.response().headWritten()) {
+            return;
+        }
+
+        String links = chunk.getPreloadLinks();
+        // HTTP/1.0 has no informational responses, a 103 would be taken for the final response
+        if (routingContext.request().version() != HttpVersion.HTTP_1_0) {
+            routingContext.response().writeEarlyHints(MultiMap.caseInsensitiveMultiMap().add("Link", links));
+        }
+        routingContext.response().putHeader("Link", links);
+    }
+
+    private Uni<Response> respondAsync(InertiaPage page, Context requestContext) {
+        if (context.isInertiaRequest()) {
+            return Uni.createFrom().item(createJsonResponse(page));
+        } else {
+            return createHtmlResponseAsync(page, requestContext);
+        }
+    }
+
+    /**
+     * Resolve the props evaluated to a {@link Uni} or {@link CompletionStage} concurrently,
+     * replacing them by their values in the given map.
+     *
+     * @return null if there are no async props
+     */
+    private Uni<Void> resolveAsyncProps(Map<String, Object> props) {
+        List<String> keys = null;
+        List<Uni<?>> values = null;
+        for (Map.Entry<String, Object> entry : props.entrySet()) {
+            Uni<?> value = toUni(entry.getValue());
+            if (value != null) {
+                if (keys == null) {
+                    keys = new ArrayList<>();
+                    values = new ArrayList<>();
+                }
+                keys.add(entry.getKey());
+                values.add(value);
             }
         }
+
+        if (keys == null) {
+            return null;
+        }
+
+        List<String> asyncKeys = keys;
+        return Uni.combine().all().unis(values).with(results -> {
+            for (int i = 0; i < asyncKeys.size(); i++) {
+                props.put(asyncKeys.get(i), results.get(i));
+            }
+            return null;
+        }).replaceWithVoid();
+    }
+
+    private static Uni<?> toUni(Object value) {
+        if (value instanceof Uni) {
+            return (Uni<?>) value;
+        }
+        if (value instanceof CompletionStage) {
+            return Uni.createFrom().completionStage((CompletionStage<?>) value);
+        }
+        return null;
+    }
+
+    // Package-private for the page props benchmark
+    InertiaPage buildPage(String component, Map<String, Object> props, Map<String, Object> sharedProps, Object controllerContext) {
+        PageProps pageProps = collectProps(component, props, sharedProps, controllerContext);
+        pageProps.evaluateLazyProps();
         
-        return merged;
+        // Create the page object
+        return createPage(component, pageProps);
     }
 
-    private Map<String, Object> processProps(Map<String, Object> props, String component, Object controllerContext) {
-        Map<String, Object> processed = new HashMap<>();
-        boolean isPartialReload = context.isPartialReload();
-        String partialComponent = context.getPartialComponent();
-        List<String> partialData = context.getPartialData();
-        List<String> partialExcept = context.getPartialExcept();
-        List<String> resetKeys = context.getResetKeys();
+    private PageProps collectProps(String component, Map<String, Object> props, Map<String, Object> sharedProps, Object controllerContext) {
+        metrics.recordRender();
 
-        for (Map.Entry<String, Object> entry : props.entrySet()) {
-            String key = entry.getKey();
-            Object value = entry.getValue();
+        PageProps pageProps = new PageProps(component, controllerContext, size(sharedProps) + size(props));
+        if (config.deepMergeSharedData()) {
+            // Deep merging needs the merged tree before props can be filtered
+            pageProps.addAll(deepMergeProps(sharedProps, props), null);
+        } else {
+            // Shared props overridden by the page are skipped instead of merging both into a new map
+            if (sharedProps != null) {
+                pageProps.addAll(sharedProps, props);
+            }
+            if (props != null) {
+                pageProps.addAll(props, null);
+            }
+        }
+        return pageProps;
+    }
+
+    private static int size(Map<String, Object> props) {
+        return props != null ? props.size() : 0;
+    }
+
+    private Map<String, Object> deepMergeProps(Map<String, Object> sharedProps, Map<String, Object> props) {
+        Map<String, Object> merged = sharedProps != null ? deepMerge(sharedProps, new HashMap<>()) : new HashMap<>();
+        return props != null ? deepMerge(merged, props) : merged;
+    }
+
+    /**
+     * Props of a page built in a single pass: every prop is filtered, evaluated and
+     * inspected for deferred and merge metadata as it is added.
+     */
+    private final class PageProps {
+
+        private final String component;
+        private final Object controllerContext;
+        private final boolean isPartialReload;
+        private final String partialComponent;
+        private final InertiaPropKeySet partialData;
+        private final InertiaPropKeySet partialExcept;
+        private final InertiaPropKeySet resetKeys;
+        private final Map<String, Object> processed;
+        private final Map<String, BaseProp> lazyProps;
+        private Map<String, List<String>> deferredProps;
+        private List<String> mergeProps;
+        private List<String> deepMergeProps;
+
+        PageProps(String component, Object controllerContext, int expectedSize) {
+            InertiaRequest request = context.getRequest();
+            this.component = component;
+            this.controllerContext = controllerContext;
+            this.isPartialReload = request.isPartialReload();
+            this.partialComponent = request.getPartialComponent();
+            this.partialData = request.getPartialDataKeys();
+            this.partialExcept = request.getPartialExceptKeys();
+            this.resetKeys = request.getResetKeySet();
+            this.processed = new HashMap<>((int) (expectedSize / 0.75f) + 1);
+            this.lazyProps = config.parallelPropEvaluation() ? new LinkedHashMap<>() : null;
+        }
 
-            if (shouldIncludeProp(key, value, component, isPartialReload, partialComponent, partialData, partialExcept, resetKeys)) {
-                if (value instanceof BaseProp) {
-                    BaseProp prop = (BaseProp) value;
+        /**
+         * Add all props, except the ones overridden by the given props.
+         */
+        void addAll(Map<String, Object> props, Map<String, Object> overrides) {
+            for (Map.Entry<String, Object> entry : props.entrySet()) {
+                if (overrides == null || !overrides.containsKey(entry.getKey())) {
+                    add(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        private void add(String key, Object value) {
+            if (value instanceof BaseProp) {
+                collectMetadata(key, (BaseProp) value);
+            }
+
+            if (!shouldIncludeProp(key, value, component, isPartialReload, partialComponent, partialData, partialExcept, resetKeys)) {
+                return;
+            }
+
+            if (value instanceof BaseProp) {
+                BaseProp prop = (BaseProp) value;
+                if (lazyProps != null) {
+                    lazyProps.put(key, prop);
+                } else {
                     processed.put(key, prop.evaluate(controllerContext));
+                }
+            } else {
+                processed.put(key, value);
+            }
+        }
+
+        private void collectMetadata(String key, BaseProp prop) {
+            // Deferred props are announced on full page loads only
+            if (!isPartialReload && prop instanceof DeferProp) {
+                if (deferredProps == null) {
+                    deferredProps = new HashMap<>();
+                }
+                deferredProps.computeIfAbsent(prop.getDeferGroup(), k -> new ArrayList<>()).add(key);
+            }
+
+            if (prop.isMergeable() && !resetKeys.contains(key)) {
+                if (prop.isDeepMergeable()) {
+                    if (deepMergeProps == null) {
+                        deepMergeProps = new ArrayList<>();
+                    }
+                    deepMergeProps.add(key);
                 } else {
-                    processed.put(key, value);
+                    if (mergeProps == null) {
+                        mergeProps = new ArrayList<>();
+                    }
+                    mergeProps.add(key);
                 }
             }
         }
 
-        return processed;
+        void evaluateLazyProps() {
+            if (lazyProps != null && !lazyProps.isEmpty()) {
+                propEvaluator.evaluate(lazyProps, controllerContext, processed);
+            }
+        }
+
+        Uni<Void> evaluateLazyPropsAsync() {
+            if (lazyProps == null || lazyProps.isEmpty()) {
+                return Uni.createFrom().voidItem();
+            }
+            return propEvaluator.evaluateAsync(lazyProps, controllerContext, processed);
+        }
     }
 
     private boolean shouldIncludeProp(String key, Object value, String component, boolean isPartialReload, 
-                                    String partialComponent, List<String> partialData, List<String> partialExcept, List<String> resetKeys) {
+                                    String partialComponent, InertiaPropKeySet partialData, InertiaPropKeySet partialExcept,
+                                    InertiaPropKeySet resetKeys) {
         
         // Check if this is a BaseProp with special behavior
         if (value instanceof BaseProp) {
@@ -150,48 +442,26 @@ public class InertiaRenderer {
                 return false;
             }
             
-            // Check partial data inclusion
-            if (!partialData.isEmpty()) {
-                List<String> keyPrefixes = generateKeyPrefixes(key);
-                if (keyPrefixes.stream().noneMatch(partialData::contains)) {
-                    return false;
-                }
+            // Check partial data inclusion, the key or one of its dotted prefixes must be requested
+            if (!partialData.isEmpty() && !partialData.containsKeyOrPrefix(key)) {
+                return false;
             }
             
             // Check partial except exclusion
-            if (!partialExcept.isEmpty()) {
-                List<String> keyPrefixes = generateKeyPrefixes(key);
-                if (keyPrefixes.stream().anyMatch(partialExcept::contains)) {
-                    return false;
-                }
+            if (!partialExcept.isEmpty() && partialExcept.containsKeyOrPrefix(key)) {
+                return false;
             }
         }
 
         return true;
     }
 
-    private List<String> generateKeyPrefixes(String key) {
-        List<String> prefixes = new ArrayList<>();
-        String[] parts = key.split("\\.");
-        
-        for (int i = 0; i < parts.length; i++) {
-            StringBuilder prefix = new StringBuilder();
-            for (int j = 0; j <= i; j++) {
-                if (j > 0) prefix.append(".");
-                prefix.append(parts[j]);
-            }
-            prefixes.add(prefix.toString());
-        }
-        
-        return prefixes;
-    }
-
-    private InertiaPage createPage(String component, Map<String, Object> processedProps, Map<String, Object> allProps) {
+    private InertiaPage createPage(String component, PageProps pageProps) {
         InertiaPage page = new InertiaPage();
         page.setComponent(component);
         
         // Add session errors to props if they exist
-        Map<String, Object> finalProps = new HashMap<>(processedProps);
+        Map<String, Object> finalProps = pageProps.processed;
         addSessionDataToProps(finalProps);
         
         page.setProps(finalProps);
@@ -204,24 +474,17 @@ public class InertiaRenderer {
         // TODO: Get session from request context when available
         page.setClearHistory((config.clearHistory() || sessionClearHistory) ? true : null);
 
-        // Add deferred props info
-        if (!context.isPartialReload()) {
-            Map<String, List<String>> deferredProps = collectDeferredProps(allProps);
-            if (!deferredProps.isEmpty()) {
-                page.setDeferredProps(deferredProps);
-            }
+        // Add deferred and merge props info
+        if (pageProps.deferredProps != null) {
+            page.setDeferredProps(pageProps.deferredProps);
         }
-
-        // Add merge props info
-        List<String> mergeProps = collectMergeProps(allProps, false);
-        List<String> deepMergeProps = collectMergeProps(allProps, true);
         
-        if (!mergeProps.isEmpty()) {
-            page.setMergeProps(mergeProps);
+        if (pageProps.mergeProps != null) {
+            page.setMergeProps(pageProps.mergeProps);
         }
         
-        if (!deepMergeProps.isEmpty()) {
-            page.setDeepMergeProps(deepMergeProps);
+        if (pageProps.deepMergeProps != null) {
+            page.setDeepMergeProps(pageProps.deepMergeProps);
         }
 
         return page;
@@ -235,33 +498,6 @@ public class InertiaRenderer {
         // }
     }
 
-    private Map<String, List<String>> collectDeferredProps(Map<String, Object> props) {
-        Map<String, List<String>> deferredProps = new HashMap<>();
-        
-        for (Map.Entry<String, Object> entry : props.entrySet()) {
-            if (entry.getValue() instanceof DeferProp) {
-                DeferProp deferProp = (DeferProp) entry.getValue();
-                String group = deferProp.getDeferGroup();
-                deferredProps.computeIfAbsent(group, k -> new ArrayList<>()).add(entry.getKey());
-            }
-        }
-        
-        return deferredProps;
-    }
-
-    private List<String> collectMergeProps(Map<String, Object> props, boolean deepMerge) {
-        List<String> resetKeys = context.getResetKeys();
-        
-        return props.entrySet().stream()
-                .filter(entry -> entry.getValue() instanceof BaseProp)
-                .map(entry -> Map.entry(entry.getKey(), (BaseProp) entry.getValue()))
-                .filter(entry -> entry.getValue().isMergeable() && 
-                               entry.getValue().isDeepMergeable() == deepMerge &&
-                               !resetKeys.contains(entry.getKey()))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-    }
-
     @SuppressWarnings("unchecked")
     private Map<String, Object> deepMerge(Map<String, Object> original, Map<String, Object> update) {
         Map<String, Object> result = new HashMap<>(original);
@@ -281,8 +517,12 @@ public class InertiaRenderer {
     }
 
     private Response createJsonResponse(InertiaPage page) {
+        if (config.streamJson()) {
+            return createStreamingJsonResponse(page);
+        }
+
         try {
-            String json = objectMapper.writeValueAsString(page);
+            byte[] json = serializePage(page);
             return Response.ok(json)
                     .header("Content-Type", "application/json")
                     .header("Vary", "X-Inertia")
@@ -295,40 +535,158 @@ public class InertiaRenderer {
         }
     }
 
+    private Response createStreamingJsonResponse(InertiaPage page) {
+        // The page is written while the response body is sent, so errors can no longer change the status
+        StreamingOutput body = output -> metrics.recordPageSerialization(pageWriter.write(page, output));
+        return Response.ok(body)
+                .header("Content-Type", "application/json")
+                .header("Vary", "X-Inertia")
+                .header(InertiaHeaders.X_INERTIA, "true")
+                .build();
+    }
+
+    /**
+     * Serialize the page object. Every response serializes its page exactly once,
+     * the resulting bytes are shared by the SSR request, the template and the fallback path.
+     */
+    private byte[] serializePage(InertiaPage page) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(page);
+        metrics.recordPageSerialization(json.length);
+        return json;
+    }
+
+    private Response createStreamingHtmlResponse(byte[] head, String component, Map<String, Object> props,
+            Map<String, Object> sharedProps, Map<Object, RawValue> serializedSharedValues, Object controllerContext) {
+        // The head is sent before the page is built, so errors can no longer change the status
+        StreamingOutput body = output -> {
+            output.write(head);
+            output.flush();
+
+            byte[] pageJson;
+            InertiaSSRService.SSRResponse ssrResponse = null;
+            try {
+                InertiaPage page = buildPage(component, props, sharedProps, controllerContext);
+                page.setSerializedValues(serializedSharedValues);
+                Uni<Void> asyncProps = resolveAsyncProps(page.getProps());
+                if (asyncProps != null) {
+                    try {
+                        asyncProps.await().atMost(propEvaluationTimeout());
+                    } catch (TimeoutException e) {
+                        throw new IOException("Async props not resolved within " + config.propEvaluationTimeout() + "ms", e);
+                    }
+                }
+                pageJson = serializePage(page);
+
+                if (config.ssrEnabled()) {
+                    try {
+                        ssrResponse = ssrService.renderPage(page, pageJson);
+                    } catch (Exception e) {
+                        // SSR failed, fall back to client-side rendering
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // The status is already sent, aborting the response is the only failure left
+                LOG.errorf(e, "Failed to render page %s after its head was streamed, the response is truncated", component);
+                throw e;
+            }
+
+            if (ssrResponse != null && ssrResponse.isSuccess()) {
+                templateShells.get(true).write(output, pageJson, toBytes(ssrResponse.getHead()),
+                        toBytes(ssrResponse.getBody()), head.length);
+            } else {
+                templateShells.get(false).write(output, pageJson, new byte[0], new byte[0], head.length);
+            }
+        };
+        return Response.ok(body)
+                .header("Content-Type", "text/html")
+                .build();
+    }
+
+    private static byte[] toBytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
     private Response createHtmlResponse(InertiaPage page) {
+        byte[] pageJson;
+        try {
+            pageJson = serializePage(page);
+        } catch (Exception e) {
+            return Response.serverError()
+                    .entity("Error serializing Inertia page: " + e.getMessage())
+                    .build();
+        }
+
+        // Try SSR first if enabled
+        InertiaSSRService.SSRResponse ssrResponse = null;
+        if (config.ssrEnabled()) {
+            try {
+                ssrResponse = ssrService.renderPage(page, pageJson);
+            } catch (Exception e) {
+                // SSR failed, fall back to client-side rendering
+            }
+        }
+
+        return createHtmlResponse(page, pageJson, ssrResponse);
+    }
+
+    private Uni<Response> createHtmlResponseAsync(InertiaPage page, Context requestContext) {
+        byte[] pageJson;
+        try {
+            pageJson = serializePage(page);
+        } catch (Exception e) {
+            return Uni.createFrom().item(Response.serverError()
+                    .entity("Error serializing Inertia page: " + e.getMessage())
+                    .build());
+        }
+
+        if (!config.ssrEnabled()) {
+            return Uni.createFrom().item(() -> createHtmlResponse(page, pageJson, null));
+        }
+
+        Uni<InertiaSSRService.SSRResponse> ssrResponse = ssrService.renderPageAsync(page, pageJson)
+                // SSR failed, fall back to client-side rendering
+                .onFailure().recoverWithItem(e -> InertiaSSRService.SSRResponse.failure(e.getMessage()));
+        // The SSR response arrives on a thread of the HTTP client, the template is rendered on the request context
+        return emitOn(ssrResponse, requestContext)
+                .map(response -> createHtmlResponse(page, pageJson, response));
+    }
+
+    private Response createHtmlResponse(InertiaPage page, byte[] pageJson, InertiaSSRService.SSRResponse ssrResponse) {
+        boolean ssr = ssrResponse != null && ssrResponse.isSuccess();
+
+        // Shells splice the JSON bytes, only Qute needs the page JSON decoded
+        InertiaTemplateShell shell = templateShells.get(ssr);
+        if (shell != null) {
+            byte[] html = ssr ? shell.render(pageJson, ssrResponse.getHead(), ssrResponse.getBody())
+                    : shell.render(pageJson, null, null);
+            return Response.ok(html)
+                    .header("Content-Type", "text/html")
+                    .build();
+        }
+        String pageJsonText = new String(pageJson, StandardCharsets.UTF_8);
+
         // Set the rendering flag
         inertiaHelper.setInertiaRendering(true);
         
         try {
-            // Try SSR first if enabled
-            if (config.ssrEnabled()) {
-                try {
-                    InertiaSSRService.SSRResponse ssrResponse = ssrService.renderPage(page);
-                    if (ssrResponse.isSuccess()) {
-                        // Set SSR head content for template access
-                        inertiaHelper.setInertiaSSRHead(ssrResponse.getHead());
-                        
-                        // Return SSR-rendered HTML
-                        return createSSRHtmlResponse(page, ssrResponse);
-                    }
-                    // SSR failed, fall back to client-side rendering
-                } catch (Exception e) {
-                    // SSR failed, fall back to client-side rendering
-                }
+            if (ssr) {
+                // Set SSR head content for template access
+                inertiaHelper.setInertiaSSRHead(ssrResponse.getHead());
+                
+                // Return SSR-rendered HTML
+                return createSSRHtmlResponse(page, pageJsonText, ssrResponse);
             }
             
             // Fallback to client-side rendering
-            return createClientSideHtmlResponse(page);
+            return createClientSideHtmlResponse(page, pageJsonText);
         } finally {
             // Reset the rendering flag
             inertiaHelper.setInertiaRendering(false);
         }
     }
 
-    private Response createSSRHtmlResponse(InertiaPage page, InertiaSSRService.SSRResponse ssrResponse) {
+    private Response createSSRHtmlResponse(InertiaPage page, String pageJson, InertiaSSRService.SSRResponse ssrResponse) {
         try {
-            String pageJson = objectMapper.writeValueAsString(page);
-            
             // Load the configured template
             String templateName = config.rootTemplate();
             var template = quteEngine.getTemplate(templateName);
@@ -360,10 +718,8 @@ public class InertiaRenderer {
         }
     }
 
-    private Response createClientSideHtmlResponse(InertiaPage page) {
+    private Response createClientSideHtmlResponse(InertiaPage page, String pageJson) {
         try {
-            String pageJson = objectMapper.writeValueAsString(page);
-            
             // Load the configured template
             String templateName = config.rootTemplate();
             var template = quteEngine.getTemplate(templateName);
@@ -392,4 +748,4 @@ public class InertiaRenderer {
                     .build();
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+package com.gurtus.inertia.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable view of the Inertia headers of a request.
+ * The headers are read and split once per request, the Inertia filter stores the
+ * descriptor in the routing context so renderer, helper and filter share it.
+ */
+public final class InertiaRequest {
+
+    /**
+     * Routing context key of the descriptor of the current request.
+     */
+    public static final String KEY = "inertiaRequest";
+
+    private final boolean inertia;
+    private final String version;
+    private final String partialComponent;
+    private final List<String> partialData;
+    private final List<String> partialExcept;
+    private final List<String> resetKeys;
+    private final InertiaPropKeySet partialDataKeys;
+    private final InertiaPropKeySet partialExceptKeys;
+    private final InertiaPropKeySet resetKeySet;
+
+    private InertiaRequest(Function<String, String> headers) {
+        this.inertia = "true".equals(headers.apply(InertiaHeaders.X_INERTIA));
+        this.version = headers.apply(InertiaHeaders.X_INERTIA_VERSION);
+        this.partialComponent = headers.apply(InertiaHeaders.X_INERTIA_PARTIAL_COMPONENT);
+        this.partialData = splitKeys(headers.apply(InertiaHeaders.X_INERTIA_PARTIAL_DATA));
+        this.partialExcept = splitKeys(headers.apply(InertiaHeaders.X_INERTIA_PARTIAL_EXCEPT));
+        this.resetKeys = splitKeys(headers.apply(InertiaHeaders.X_INERTIA_RESET));
+        this.partialDataKeys = InertiaPropKeySet.of(partialData);
+        this.partialExceptKeys = InertiaPropKeySet.of(partialExcept);
+        this.resetKeySet = InertiaPropKeySet.of(resetKeys);
+    }
+
+    /**
+     * Parse the Inertia headers of a request.
+     *
+     * @param headers header lookup by name, returning null for missing headers
+     */
+    public static InertiaRequest from(Function<String, String> headers) {
+        return new InertiaRequest(headers);
+    }
+
+    private static List<String> splitKeys(String header) {
+        if (header == null || header.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> keys = new ArrayList<>();
+        for (String key : header.split(",")) {
+            String trimmed = key.trim();
+            if (!trimmed.isEmpty()) {
+                keys.add(trimmed);
+            }
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    public boolean isInertia() {
+        return inertia;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getPartialComponent() {
+        return partialComponent;
+    }
+
+    public boolean isPartialReload() {
+        return partialComponent != null;
+    }
+
+    public List<String> getPartialData() {
+        return partialData;
+    }
+
+    public List<String> getPartialExcept() {
+        return partialExcept;
+    }
+
+    public List<String> getResetKeys() {
+        return resetKeys;
+    }
+
+    public InertiaPropKeySet getPartialDataKeys() {
+        return partialDataKeys;
+    }
+
+    public InertiaPropKeySet getPartialExceptKeys() {
+        return partialExceptKeys;
+    }
+
+    public InertiaPropKeySet getResetKeySet() {
+        return resetKeySet;
+    }
+}
@@ -2,14 +2,17 @@ package com.gurtus.inertia.runtime;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import com.gurtus.inertia.runtime.props.AlwaysProp;
+import com.gurtus.inertia.runtime.props.AsyncProp;
 import com.gurtus.inertia.runtime.props.DeferProp;
 import com.gurtus.inertia.runtime.props.MergeProp;
 import com.gurtus.inertia.runtime.props.OptionalProp;
 
+import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.core.Response;
 
 /**
@@ -170,10 +173,43 @@ public class InertiaResponseBuilder {
         return this;
     }
     
+    /**
+     * Add an async prop, resolved without blocking when built with {@link #buildAsync()}.
+     */
+    public InertiaResponseBuilder withAsync(String key, Function<Object, Uni<?>> evaluator) {
+        this.props.put(key, new AsyncProp(evaluator));
+        return this;
+    }
+    
+    /**
+     * Add an async prop not depending on the controller context. With {@link #build()} the rendering thread
+     * waits for it, up to {@code quarkus.inertia.prop-evaluation-timeout}.
+     */
+    public InertiaResponseBuilder withAsync(String key, Supplier<Uni<?>> supplier) {
+        this.props.put(key, new AsyncProp(supplier));
+        return this;
+    }
+    
+    /**
+     * Add an async prop from a {@link CompletionStage}, e.g. of a non-Mutiny client.
+     * The stage is only requested once the prop is resolved, and is otherwise handled like {@code withAsync}.
+     */
+    public InertiaResponseBuilder withAsyncStage(String key, Supplier<? extends CompletionStage<?>> supplier) {
+        this.props.put(key, AsyncProp.fromCompletionStage(supplier));
+        return this;
+    }
+    
     /**
      * Build the JAX-RS Response without needing to pass context.
      */
     public Response build() {
         return inertiaService.buildResponse(component, props, controllerContext);
     }
+    
+    /**
+     * Build the JAX-RS Response without blocking, for endpoints returning {@code Uni<Response>}.
+     */
+    public Uni<Response> buildAsync() {
+        return inertiaService.buildResponseAsync(component, props, controllerContext);
+    }
 } 
\ No newline at end of file
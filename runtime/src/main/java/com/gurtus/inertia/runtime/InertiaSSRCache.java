@@ -0,0 +1,86 @@
+package com.gurtus.inertia.runtime;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Set;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Bounded cache of SSR results.
+ * Entries are keyed by component, asset version and a hash of the serialized page,
+ * so identical pages are rendered by the SSR server only once per TTL.
+ */
+public class InertiaSSRCache {
+
+    private final Cache<String, InertiaSSRService.SSRResponse> cache;
+    private final Set<String> components;
+    private final Set<String> excludedComponents;
+
+    /**
+     * @param maxSize maximum number of cached renders
+     * @param ttlMillis time after which a cached render expires
+     * @param components components to cache, empty to cache all of them
+     * @param excludedComponents components never to cache
+     * @param metrics metrics recording evictions
+     */
+    public InertiaSSRCache(long maxSize, long ttlMillis, Set<String> components, Set<String> excludedComponents,
+            InertiaMetrics metrics) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .<String, InertiaSSRService.SSRResponse>evictionListener((key, value, cause) -> metrics.recordSsrCacheEviction())
+                .build();
+        this.components = Set.copyOf(components);
+        this.excludedComponents = Set.copyOf(excludedComponents);
+    }
+
+    /**
+     * Check if renders of the given component may be cached.
+     */
+    public boolean isCacheable(String component) {
+        if (component == null || excludedComponents.contains(component)) {
+            return false;
+        }
+        return components.isEmpty() || components.contains(component);
+    }
+
+    /**
+     * Create the cache key of a page.
+     */
+    public String key(InertiaPage page, byte[] pageJson) {
+        return page.getComponent() + '|' + page.getVersion() + '|' + hash(pageJson);
+    }
+
+    public InertiaSSRService.SSRResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Cache a render. Failed renders are never cached.
+     */
+    public void put(String key, InertiaSSRService.SSRResponse response) {
+        if (response.isSuccess()) {
+            cache.put(key, response);
+        }
+    }
+
+    /**
+     * Remove all cached renders.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private static String hash(byte[] pageJson) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(pageJson));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.gurtus.inertia.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuit breaker guarding the SSR server.
+ * After a number of consecutive failed or slow renders the circuit opens and
+ * pages are rendered client-side right away. Once a health probe succeeds the circuit
+ * is half-open: a single trial render is sent, which closes the circuit or opens it again.
+ */
+public class InertiaSSRCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Permission to send a render, see {@link #acquirePermit()}.
+     */
+    public enum Permit {
+        DENIED, GRANTED, TRIAL
+    }
+
+    private final int failureThreshold;
+    private final long slowCallThresholdNanos;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    /**
+     * @param failureThreshold number of consecutive failures opening the circuit
+     * @param slowCallThresholdMillis calls taking longer count as failures, {@code 0} to disable
+     */
+    public InertiaSSRCircuitBreaker(int failureThreshold, long slowCallThresholdMillis) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.slowCallThresholdNanos = slowCallThresholdMillis > 0 ? slowCallThresholdMillis * 1_000_000 : Long.MAX_VALUE;
+    }
+
+    /**
+     * Check if a render may be sent to the SSR server, without taking the trial while half-open.
+     * The render takes its permit with {@link #acquirePermit()} once it is actually sent.
+     */
+    public boolean allowRequest() {
+        State current = state.get();
+        return current == State.CLOSED || current == State.HALF_OPEN && !trialInFlight.get();
+    }
+
+    /**
+     * Take the permission to send a render.
+     * While half-open only the first caller gets it, its render is the trial and must end with
+     * {@link #record(boolean, long)} or {@link #abandonTrial()}.
+     */
+    public Permit acquirePermit() {
+        return switch (state.get()) {
+            case CLOSED -> Permit.GRANTED;
+            case HALF_OPEN -> trialInFlight.compareAndSet(false, true) ? Permit.TRIAL : Permit.DENIED;
+            case OPEN -> Permit.DENIED;
+        };
+    }
+
+    /**
+     * Record the outcome of a render.
+     *
+     * @return true if this outcome opened the circuit
+     */
+    public boolean record(boolean success, long durationNanos) {
+        boolean failed = !success || durationNanos > slowCallThresholdNanos;
+
+        if (state.get() == State.HALF_OPEN) {
+            if (failed) {
+                boolean opened = state.compareAndSet(State.HALF_OPEN, State.OPEN);
+                trialInFlight.set(false);
+                return opened;
+            }
+            close();
+            return false;
+        }
+
+        if (!failed) {
+            consecutiveFailures.set(0);
+            return false;
+        }
+
+        return consecutiveFailures.incrementAndGet() >= failureThreshold
+                && state.compareAndSet(State.CLOSED, State.OPEN);
+    }
+
+    /**
+     * Let a trial render through, typically after a successful health probe.
+     */
+    public void halfOpen() {
+        if (state.get() == State.OPEN) {
+            // A render permitted just before the circuit opened must not hold the next trial
+            trialInFlight.set(false);
+            state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+    }
+
+    /**
+     * Give up the trial of a render that ended without an outcome, e.g. cancelled while waiting for the server.
+     * The circuit opens again until the next successful health probe.
+     *
+     * @return true if the circuit opened
+     */
+    public boolean abandonTrial() {
+        boolean opened = state.compareAndSet(State.HALF_OPEN, State.OPEN);
+        trialInFlight.set(false);
+        return opened;
+    }
+
+    /**
+     * Close the circuit.
+     */
+    public void close() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+        trialInFlight.set(false);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+}
@@ -0,0 +1,27 @@
+package com.gurtus.inertia.runtime;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Backend performing the actual server-side rendering of a page.
+ * The {@link InertiaSSRService} adds caching, circuit breaking and metrics on top of it.
+ */
+public interface InertiaSSREngine {
+
+    /**
+     * Render the serialized page object.
+     * The returned Uni should not fail, errors are reported as a failed {@link InertiaSSRService.SSRResponse}.
+     */
+    Uni<InertiaSSRService.SSRResponse> render(byte[] pageJson);
+
+    /**
+     * Check if the engine is able to render pages.
+     */
+    Uni<Boolean> isAvailable();
+
+    /**
+     * Release the resources held by the engine.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,85 @@
+package com.gurtus.inertia.runtime;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Limits the number of SSR renders in flight, whatever the engine.
+ * Renders beyond the limit wait in a bounded queue without blocking a thread,
+ * renders beyond the queue are rejected right away so the page is rendered client-side.
+ */
+public class InertiaSSRLimiter {
+
+    private final Semaphore inFlight;
+    private final Semaphore queueSlots;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param maxConcurrent maximum number of renders in flight
+     * @param maxQueued maximum number of renders waiting for one in flight to complete
+     */
+    public InertiaSSRLimiter(int maxConcurrent, int maxQueued) {
+        this.inFlight = new Semaphore(Math.max(1, maxConcurrent));
+        this.queueSlots = new Semaphore(Math.max(0, maxQueued));
+    }
+
+    /**
+     * Run the render once a slot is available.
+     *
+     * @param render starts the render
+     * @param rejected result used if the render is neither run nor queued
+     */
+    public <T> Uni<T> submit(Supplier<Uni<T>> render, Supplier<T> rejected) {
+        return Uni.createFrom().deferred(() -> {
+            if (inFlight.tryAcquire()) {
+                return run(render);
+            }
+            if (!queueSlots.tryAcquire()) {
+                return Uni.createFrom().item(rejected);
+            }
+
+            return Uni.createFrom().<T> emitter(emitter -> {
+                // Terminated before the render started means the caller is no longer waiting
+                AtomicBoolean cancelled = new AtomicBoolean();
+                emitter.onTermination(() -> cancelled.set(true));
+                queue.add(() -> {
+                    if (cancelled.get()) {
+                        release();
+                    } else {
+                        run(render).subscribe().with(emitter::complete, emitter::fail);
+                    }
+                });
+                // A render may have completed before the waiter was queued
+                drain();
+            });
+        });
+    }
+
+    private <T> Uni<T> run(Supplier<Uni<T>> render) {
+        // The slot is held until the render completes, fails or is cancelled
+        return Uni.createFrom().deferred(render::get).eventually(this::release);
+    }
+
+    private void release() {
+        inFlight.release();
+        drain();
+    }
+
+    private void drain() {
+        while (!queue.isEmpty() && inFlight.tryAcquire()) {
+            Runnable next = queue.poll();
+            if (next == null) {
+                // Taken by a concurrent drain
+                inFlight.release();
+                return;
+            }
+            queueSlots.release();
+            next.run();
+        }
+    }
+}
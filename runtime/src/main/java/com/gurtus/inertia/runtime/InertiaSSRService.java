@@ -1,35 +1,82 @@
 package com.gurtus.inertia.runtime;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.Set;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 /**
  * Service for handling Server-Side Rendering (SSR) with Inertia.js.
+ * Pages are rendered asynchronously by the configured {@link InertiaSSREngine},
+ * the blocking methods simply wait for the asynchronous result.
  */
 @ApplicationScoped
 public class InertiaSSRService {
 
+    private static final int HEALTH_CHECK_TIMEOUT = 2000;
+
     @Inject
     InertiaConfig config;
 
     @Inject
     ObjectMapper objectMapper;
 
-    private final HttpClient httpClient;
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    InertiaMetrics metrics;
+
+    private InertiaSSREngine engine;
+    private InertiaSSRCircuitBreaker circuitBreaker;
+    private InertiaSSRCache cache;
+    private InertiaSSRLimiter limiter;
+
+    @PostConstruct
+    void init() {
+        if (!config.ssrEnabled()) {
+            // Don't create an HTTP client or JavaScript contexts that are never used
+            return;
+        }
+
+        this.engine = createEngine();
+        this.limiter = new InertiaSSRLimiter(config.ssrMaxConcurrentRenders(), config.ssrMaxQueuedRenders());
+
+        if (config.ssrCircuitBreakerEnabled()) {
+            this.circuitBreaker = new InertiaSSRCircuitBreaker(
+                    config.ssrCircuitBreakerFailureThreshold(),
+                    config.ssrCircuitBreakerSlowCallThreshold().orElse(0));
+        }
+
+        if (config.ssrCacheEnabled()) {
+            this.cache = new InertiaSSRCache(config.ssrCacheMaxSize(), config.ssrCacheTtl(),
+                    config.ssrCacheComponents().orElse(Set.of()),
+                    config.ssrCacheExcludedComponents().orElse(Set.of()),
+                    metrics);
+        }
+    }
+
+    private InertiaSSREngine createEngine() {
+        if (config.ssrEngine() == InertiaConfig.SsrEngine.GRAALJS) {
+            String bundle = config.ssrBundle().orElseThrow(() -> new IllegalStateException(
+                    "quarkus.inertia.ssr-bundle must be set when using the GraalJS SSR engine"));
+            return new InertiaGraalJsSSREngine(bundle, config.ssrContextPoolSize(), config.ssrTimeout());
+        }
+        return new InertiaHttpSSREngine(vertx, config, objectMapper, metrics);
+    }
 
-    public InertiaSSRService() {
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(5))
-                .build();
+    @PreDestroy
+    void close() {
+        if (engine != null) {
+            engine.close();
+        }
     }
 
     /**
@@ -71,79 +118,150 @@ public class InertiaSSRService {
         }
 
         try {
-            String pageJson = objectMapper.writeValueAsString(page);
-            return performSSRRequest(pageJson);
+            byte[] pageJson = objectMapper.writeValueAsBytes(page);
+            return renderPage(page, pageJson);
         } catch (Exception e) {
             return SSRResponse.failure("Failed to serialize page: " + e.getMessage());
         }
     }
 
-    private SSRResponse performSSRRequest(String pageJson) {
+    /**
+     * Render a page using SSR with its already serialized JSON.
+     * Used by the renderer so the page does not have to be serialized again.
+     * Blocks the calling thread, use {@link #renderPageAsync(InertiaPage, byte[])} on the event loop.
+     */
+    public SSRResponse renderPage(InertiaPage page, byte[] pageJson) {
         try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(config.ssrUrl() + "/render"))
-                    .header("Content-Type", "application/json")
-                    .timeout(Duration.ofMillis(config.ssrTimeout()))
-                    .POST(HttpRequest.BodyPublishers.ofString(pageJson))
-                    .build();
+            return renderPageAsync(page, pageJson)
+                    .await().atMost(Duration.ofMillis((long) config.ssrTimeout() + config.ssrConnectTimeout()));
+        } catch (Exception e) {
+            return SSRResponse.failure("SSR request failed: " + e.getMessage());
+        }
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    /**
+     * Render a page using SSR without blocking the calling thread.
+     * The returned Uni never fails, errors are reported as a failed {@link SSRResponse}.
+     */
+    public Uni<SSRResponse> renderPageAsync(InertiaPage page, byte[] pageJson) {
+        if (!config.ssrEnabled()) {
+            return Uni.createFrom().item(SSRResponse.failure("SSR is not enabled"));
+        }
 
-            if (response.statusCode() == 200) {
-                return parseSSRResponse(response.body());
-            } else {
-                return SSRResponse.failure("SSR server returned status: " + response.statusCode());
+        if (cache == null || !cache.isCacheable(page.getComponent())) {
+            return renderUncached(pageJson);
+        }
+
+        String key = cache.key(page, pageJson);
+        SSRResponse cached = cache.get(key);
+        metrics.recordSsrCacheLookup(cached != null);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return renderUncached(pageJson).invoke(response -> cache.put(key, response));
+    }
+
+    private Uni<SSRResponse> renderUncached(byte[] pageJson) {
+        if (circuitBreaker != null && !circuitBreaker.allowRequest()) {
+            // Don't wait for a server that is known to be down
+            metrics.recordSsrShortCircuited();
+            return Uni.createFrom().item(SSRResponse.failure("SSR circuit breaker is open"));
+        }
+
+        // Too many renders in flight and queued, don't let a burst overload the SSR server
+        return limiter.submit(() -> {
+            // Taken once the render is admitted, a rejected or dropped render must not hold the trial
+            InertiaSSRCircuitBreaker.Permit permit = circuitBreaker != null
+                    ? circuitBreaker.acquirePermit()
+                    : InertiaSSRCircuitBreaker.Permit.GRANTED;
+            if (permit == InertiaSSRCircuitBreaker.Permit.DENIED) {
+                metrics.recordSsrShortCircuited();
+                return Uni.createFrom().item(SSRResponse.failure("SSR circuit breaker is open"));
             }
-        } catch (Exception e) {
-            return SSRResponse.failure("SSR request failed: " + e.getMessage());
+
+            long start = System.nanoTime();
+            return engine.render(pageJson)
+                    .invoke(response -> recordOutcome(response.isSuccess(), System.nanoTime() - start))
+                    .onTermination().invoke((response, failure, cancelled) -> {
+                        if (response == null && permit == InertiaSSRCircuitBreaker.Permit.TRIAL) {
+                            abandonTrial();
+                        }
+                    });
+        }, () -> {
+            metrics.recordSsrRejected();
+            return SSRResponse.failure("SSR is saturated");
+        });
+    }
+
+    private void recordOutcome(boolean success, long durationNanos) {
+        metrics.recordSsrRender(success);
+        if (circuitBreaker == null) {
+            return;
+        }
+
+        if (circuitBreaker.record(success, durationNanos)) {
+            metrics.recordSsrCircuitState(true);
+            scheduleProbe();
+        } else if (metrics.isSsrCircuitOpen() && circuitBreaker.getState() == InertiaSSRCircuitBreaker.State.CLOSED) {
+            // The trial render succeeded
+            metrics.recordSsrCircuitState(false);
         }
     }
 
-    private SSRResponse parseSSRResponse(String responseBody) {
-        try {
-            JsonNode jsonNode = objectMapper.readTree(responseBody);
-            
-            String body = jsonNode.has("body") ? jsonNode.get("body").asText() : "";
-            String head = "";
-            
-            if (jsonNode.has("head")) {
-                JsonNode headNode = jsonNode.get("head");
-                if (headNode.isArray()) {
-                    StringBuilder headBuilder = new StringBuilder();
-                    for (JsonNode headItem : headNode) {
-                        headBuilder.append(headItem.asText());
-                    }
-                    head = headBuilder.toString();
-                } else {
-                    head = headNode.asText();
-                }
+    private void abandonTrial() {
+        // The trial gave no outcome, e.g. the caller stopped waiting, probe again for the next one
+        if (circuitBreaker.abandonTrial()) {
+            scheduleProbe();
+        }
+    }
+
+    private void scheduleProbe() {
+        vertx.setTimer(config.ssrCircuitBreakerProbeInterval(), id -> isSSRAvailableAsync().subscribe().with(available -> {
+            if (available) {
+                // The next render is the trial closing the circuit
+                circuitBreaker.halfOpen();
+            } else {
+                scheduleProbe();
             }
-            
-            return SSRResponse.success(body, head);
-        } catch (Exception e) {
-            return SSRResponse.failure("Failed to parse SSR response: " + e.getMessage());
+        }));
+    }
+
+    /**
+     * Remove all cached SSR results.
+     */
+    public void clearCache() {
+        if (cache != null) {
+            cache.clear();
         }
     }
 
+    /**
+     * Get the state of the SSR circuit breaker, {@code null} if it is disabled.
+     */
+    public InertiaSSRCircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker != null ? circuitBreaker.getState() : null;
+    }
+
     /**
      * Check if SSR is available.
      */
     public boolean isSSRAvailable() {
-        if (!config.ssrEnabled()) {
-            return false;
-        }
-
         try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(config.ssrUrl() + "/health"))
-                    .timeout(Duration.ofSeconds(2))
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            return response.statusCode() == 200;
+            return isSSRAvailableAsync()
+                    .await().atMost(Duration.ofMillis(HEALTH_CHECK_TIMEOUT + config.ssrConnectTimeout()));
         } catch (Exception e) {
             return false;
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Check if SSR is available without blocking the calling thread.
+     */
+    public Uni<Boolean> isSSRAvailableAsync() {
+        if (!config.ssrEnabled()) {
+            return Uni.createFrom().item(false);
+        }
+
+        return engine.isAvailable();
+    }
+}
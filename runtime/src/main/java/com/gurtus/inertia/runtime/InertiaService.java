@@ -1,13 +1,23 @@
 package com.gurtus.inertia.runtime;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.gurtus.inertia.runtime.props.BaseProp;
+
+import io.quarkus.arc.Arc;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Response;
@@ -24,15 +34,31 @@ public class InertiaService {
     @Inject
     InertiaSession inertiaSession;
 
+    @Inject
+    InertiaContext context;
+
+    @Inject
+    InertiaConfig config;
+
+    @Inject
+    ObjectMapper objectMapper;
+
     private final Map<String, Object> sharedProps = new ConcurrentHashMap<>();
+    // Handed to renders instead of a copy of the shared props
+    private final Map<String, Object> sharedPropsView = Collections.unmodifiableMap(sharedProps);
+    // Bumped on every change of the shared props, invalidates their serialized form
+    private final AtomicInteger sharedPropsVersion = new AtomicInteger();
+    private volatile SerializedSharedProps serializedSharedProps;
     private final Map<String, Object> sharedViewData = new ConcurrentHashMap<>();
-    private final List<InertiaSharedData> sharedDataList = new ArrayList<>();
+    // Copy-on-write, renders iterate over a snapshot without locking
+    private final List<InertiaSharedData> sharedDataList = new CopyOnWriteArrayList<>();
 
     /**
      * Share a prop globally across all Inertia responses.
      */
     public void share(String key, Object value) {
         sharedProps.put(key, value);
+        sharedPropsVersion.incrementAndGet();
     }
 
     /**
@@ -72,16 +98,52 @@ public class InertiaService {
     public Response buildResponse(String component, Map<String, Object> props, Object controllerContext, String currentAction) {
         // Merge all shared data sources
         Map<String, Object> allSharedProps = mergeSharedData(controllerContext, currentAction);
-        return renderer.render(component, props, allSharedProps, controllerContext);
+        return renderer.render(resolveComponent(component), props, allSharedProps, getSerializedSharedValues(), controllerContext);
+    }
+
+    /**
+     * Build a JAX-RS Response without blocking the calling thread while SSR is performed,
+     * filtering shared data with the action of the resource method handling the request.
+     */
+    public Uni<Response> buildResponseAsync(String component, Map<String, Object> props, Object controllerContext) {
+        return buildResponseAsync(component, props, controllerContext, null);
+    }
+
+    /**
+     * Build a JAX-RS Response without blocking the calling thread while SSR is performed.
+     * Intended for RESTEasy Reactive endpoints returning {@code Uni<Response>}.
+     * A null action defaults to the action of the resource method handling the request.
+     */
+    public Uni<Response> buildResponseAsync(String component, Map<String, Object> props, Object controllerContext, String currentAction) {
+        Map<String, Object> allSharedProps = mergeSharedData(controllerContext, currentAction);
+        return renderer.renderAsync(resolveComponent(component), props, allSharedProps, getSerializedSharedValues(),
+                controllerContext);
+    }
+
+    /**
+     * Resolve a missing component from the endpoint handling the request: the component set with
+     * {@link Inertia#component()} or, with default render enabled, the component path pattern.
+     */
+    private String resolveComponent(String component) {
+        if (component != null && !component.isEmpty() || !Arc.container().requestContext().isActive()) {
+            return component;
+        }
+
+        InertiaEndpoints.Endpoint endpoint = context.getEndpoint();
+        if (endpoint == null) {
+            return component;
+        }
+        if (endpoint.getComponent() != null) {
+            return endpoint.getComponent();
+        }
+        return config.defaultRender() ? endpoint.getDefaultComponent(config.componentPathPattern()) : component;
     }
 
     /**
      * Add shared data with filters.
      */
     public void shareData(InertiaSharedData sharedData) {
-        synchronized (sharedDataList) {
-            sharedDataList.add(sharedData);
-        }
+        sharedDataList.add(sharedData);
     }
 
     /**
@@ -110,6 +172,21 @@ public class InertiaService {
         shareData(new InertiaSharedData(dataSupplier));
     }
 
+    /**
+     * Add shared data loaded at most once per TTL and refreshed in the background.
+     */
+    public void shareData(Supplier<Map<String, Object>> dataLoader, long ttlMillis) {
+        shareData(InertiaSharedData.builder().withCachedData(dataLoader, ttlMillis).build());
+    }
+
+    /**
+     * Add shared data loaded at most once per TTL, served for up to the max staleness
+     * past its TTL while it is refreshed in the background.
+     */
+    public void shareData(Supplier<Map<String, Object>> dataLoader, long ttlMillis, long maxStalenessMillis) {
+        shareData(InertiaSharedData.builder().withCachedData(dataLoader, ttlMillis, maxStalenessMillis).build());
+    }
+
     /**
      * Add contextual shared data.
      */
@@ -122,9 +199,8 @@ public class InertiaService {
      */
     public void clearSharedData() {
         sharedProps.clear();
-        synchronized (sharedDataList) {
-            sharedDataList.clear();
-        }
+        sharedPropsVersion.incrementAndGet();
+        sharedDataList.clear();
     }
 
     /**
@@ -135,22 +211,91 @@ public class InertiaService {
     }
 
     private Map<String, Object> mergeSharedData(Object controllerContext, String currentAction) {
-        Map<String, Object> merged = new HashMap<>(sharedProps);
+        Map<String, Object> shared = sharedPropsView;
         
         // Add session errors if they exist
         // TODO: Add session context when available
         
-        // Process shared data list
-        synchronized (sharedDataList) {
-            for (InertiaSharedData sharedData : sharedDataList) {
-                if (sharedData.shouldInclude(currentAction)) {
-                    Map<String, Object> data = sharedData.evaluate(controllerContext, currentAction);
-                    merged.putAll(data);
-                }
+        if (sharedDataList.isEmpty()) {
+            return shared;
+        }
+        
+        boolean requestActive = Arc.container().requestContext().isActive();
+        
+        // Default to the action of the resource method handling the request
+        if (currentAction == null && requestActive) {
+            currentAction = context.getCurrentAction();
+        }
+        
+        // Suppliers and conditions run at most once per request
+        Map<InertiaSharedData, InertiaSharedData.Evaluation> evaluations = requestActive
+                ? context.getSharedDataEvaluations()
+                : null;
+        
+        // Process shared data list, evaluated outside of any lock so slow suppliers don't block other renders.
+        // The shared props are only copied once some shared data applies to the request
+        Map<String, Object> merged = null;
+        for (InertiaSharedData sharedData : sharedDataList) {
+            // Filters are checked by evaluate, excluded data evaluates to an empty map
+            Map<String, Object> data = sharedData.evaluate(controllerContext, currentAction, evaluations);
+            if (data.isEmpty()) {
+                continue;
             }
+            if (merged == null) {
+                merged = new HashMap<>((int) ((shared.size() + data.size()) / 0.75f) + 1);
+                merged.putAll(shared);
+            }
+            merged.putAll(data);
         }
         
-        return merged;
+        return merged != null ? merged : shared;
     }
 
-} 
\ No newline at end of file
+    /**
+     * Get the JSON of the props shared with {@link #share(String, Object)}, keyed by the identity of the value.
+     * When enabled, plain values are serialized once and reused until the shared props change.
+     *
+     * @return null if shared props are serialized with the page
+     */
+    private Map<Object, RawValue> getSerializedSharedValues() {
+        // Deep merging builds new values
+        if (!config.serializeSharedPropsOnce() || config.deepMergeSharedData()) {
+            return null;
+        }
+
+        int version = sharedPropsVersion.get();
+        SerializedSharedProps serialized = serializedSharedProps;
+        if (serialized == null || serialized.version != version) {
+            serialized = new SerializedSharedProps(version, serialize(sharedProps));
+            serializedSharedProps = serialized;
+        }
+        return serialized.values;
+    }
+
+    private Map<Object, RawValue> serialize(Map<String, Object> props) {
+        // Keyed by identity, a page prop overriding a shared prop is serialized with the page
+        Map<Object, RawValue> serialized = new IdentityHashMap<>();
+        for (Object value : props.values()) {
+            // Lazy props are evaluated per request
+            if (value != null && !(value instanceof BaseProp)) {
+                try {
+                    serialized.put(value, new RawValue(objectMapper.writeValueAsString(value)));
+                } catch (JsonProcessingException e) {
+                    // Leave the value to the regular serialization, which reports the error
+                }
+            }
+        }
+        return Collections.unmodifiableMap(serialized);
+    }
+
+    private static final class SerializedSharedProps {
+
+        private final int version;
+        private final Map<Object, RawValue> values;
+
+        SerializedSharedProps(int version, Map<Object, RawValue> values) {
+            this.version = version;
+            this.values = values;
+        }
+    }
+}
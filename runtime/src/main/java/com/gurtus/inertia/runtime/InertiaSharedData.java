@@ -1,5 +1,6 @@
 package com.gurtus.inertia.runtime;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
@@ -16,14 +17,16 @@ public class InertiaSharedData {
     private final Function<Object, Map<String, Object>> contextualDataFunction;
     private final InertiaActionFilter actionFilter;
     private final Supplier<Boolean> conditionalSupplier;
+    private final boolean memoize;
     
     // Static data constructor
     public InertiaSharedData(Map<String, Object> data) {
-        this.staticData = new HashMap<>(data);
+        this.staticData = Collections.unmodifiableMap(new HashMap<>(data));
         this.dynamicDataSupplier = null;
         this.contextualDataFunction = null;
         this.actionFilter = null;
         this.conditionalSupplier = null;
+        this.memoize = true;
     }
     
     // Dynamic data constructor
@@ -33,6 +36,7 @@ public class InertiaSharedData {
         this.contextualDataFunction = null;
         this.actionFilter = null;
         this.conditionalSupplier = null;
+        this.memoize = true;
     }
     
     // Contextual data constructor (with controller context)
@@ -42,24 +46,27 @@ public class InertiaSharedData {
         this.contextualDataFunction = dataFunction;
         this.actionFilter = null;
         this.conditionalSupplier = null;
+        this.memoize = true;
     }
     
     // Constructor with action filter
     public InertiaSharedData(Map<String, Object> data, InertiaActionFilter filter) {
-        this.staticData = data != null ? new HashMap<>(data) : null;
+        this.staticData = data != null ? Collections.unmodifiableMap(new HashMap<>(data)) : null;
         this.dynamicDataSupplier = null;
         this.contextualDataFunction = null;
         this.actionFilter = filter;
         this.conditionalSupplier = null;
+        this.memoize = true;
     }
     
     // Constructor with conditional supplier
     public InertiaSharedData(Map<String, Object> data, Supplier<Boolean> conditional) {
-        this.staticData = data != null ? new HashMap<>(data) : null;
+        this.staticData = data != null ? Collections.unmodifiableMap(new HashMap<>(data)) : null;
         this.dynamicDataSupplier = null;
         this.contextualDataFunction = null;
         this.actionFilter = null;
         this.conditionalSupplier = conditional;
+        this.memoize = true;
     }
     
     // Full constructor
@@ -68,39 +75,88 @@ public class InertiaSharedData {
                            Function<Object, Map<String, Object>> contextualDataFunction,
                            InertiaActionFilter actionFilter,
                            Supplier<Boolean> conditionalSupplier) {
-        this.staticData = staticData != null ? new HashMap<>(staticData) : null;
+        this(staticData, dynamicDataSupplier, contextualDataFunction, actionFilter, conditionalSupplier, true);
+    }
+    
+    // Full constructor with memoization opt-out
+    public InertiaSharedData(Map<String, Object> staticData, 
+                           Supplier<Map<String, Object>> dynamicDataSupplier,
+                           Function<Object, Map<String, Object>> contextualDataFunction,
+                           InertiaActionFilter actionFilter,
+                           Supplier<Boolean> conditionalSupplier,
+                           boolean memoize) {
+        this.staticData = staticData != null ? Collections.unmodifiableMap(new HashMap<>(staticData)) : null;
         this.dynamicDataSupplier = dynamicDataSupplier;
         this.contextualDataFunction = contextualDataFunction;
         this.actionFilter = actionFilter;
         this.conditionalSupplier = conditionalSupplier;
+        this.memoize = memoize;
     }
     
     /**
      * Evaluate the shared data for the given context and action.
+     * Static data is returned as a read-only view instead of a copy.
      */
     public Map<String, Object> evaluate(Object controllerContext, String currentAction) {
+        return evaluate(controllerContext, currentAction, null);
+    }
+    
+    /**
+     * Evaluate the shared data, reusing the condition and data already evaluated during the current request.
+     * 
+     * @param evaluations request-scoped evaluations, null to always evaluate
+     */
+    public Map<String, Object> evaluate(Object controllerContext, String currentAction,
+                                        Map<InertiaSharedData, Evaluation> evaluations) {
         // Check action filter
         if (actionFilter != null && !actionFilter.match(currentAction)) {
-            return new HashMap<>();
+            return Collections.emptyMap();
         }
         
+        Evaluation evaluation = memoize && evaluations != null
+                ? evaluations.computeIfAbsent(this, key -> new Evaluation())
+                : null;
+        
         // Check conditional
-        if (conditionalSupplier != null && !conditionalSupplier.get()) {
-            return new HashMap<>();
+        if (conditionalSupplier != null && !evaluateCondition(evaluation)) {
+            return Collections.emptyMap();
         }
         
         // Return appropriate data
         if (staticData != null) {
-            return new HashMap<>(staticData);
-        } else if (dynamicDataSupplier != null) {
-            Map<String, Object> result = dynamicDataSupplier.get();
-            return result != null ? result : new HashMap<>();
-        } else if (contextualDataFunction != null) {
-            Map<String, Object> result = contextualDataFunction.apply(controllerContext);
-            return result != null ? result : new HashMap<>();
+            return staticData;
+        }
+        if (evaluation == null) {
+            return evaluateData(controllerContext);
         }
         
-        return new HashMap<>();
+        // Contextual data is evaluated again for another controller
+        if (!evaluation.dataEvaluated || evaluation.controllerContext != controllerContext) {
+            evaluation.data = evaluateData(controllerContext);
+            evaluation.controllerContext = controllerContext;
+            evaluation.dataEvaluated = true;
+        }
+        return evaluation.data;
+    }
+    
+    private boolean evaluateCondition(Evaluation evaluation) {
+        if (evaluation == null) {
+            return conditionalSupplier.get();
+        }
+        if (evaluation.condition == null) {
+            evaluation.condition = conditionalSupplier.get();
+        }
+        return evaluation.condition;
+    }
+    
+    private Map<String, Object> evaluateData(Object controllerContext) {
+        Map<String, Object> result = null;
+        if (dynamicDataSupplier != null) {
+            result = dynamicDataSupplier.get();
+        } else if (contextualDataFunction != null) {
+            result = contextualDataFunction.apply(controllerContext);
+        }
+        return result != null ? result : Collections.emptyMap();
     }
     
     /**
@@ -125,6 +181,7 @@ public class InertiaSharedData {
         private Function<Object, Map<String, Object>> contextualDataFunction;
         private InertiaActionFilter actionFilter;
         private Supplier<Boolean> conditionalSupplier;
+        private boolean memoize = true;
         
         public Builder withStaticData(Map<String, Object> data) {
             this.staticData = data;
@@ -136,6 +193,24 @@ public class InertiaSharedData {
             return this;
         }
         
+        /**
+         * Use data loaded at most once per TTL, refreshed in the background.
+         * Expired data is served for up to another TTL while it is refreshed.
+         */
+        public Builder withCachedData(Supplier<Map<String, Object>> loader, long ttlMillis) {
+            return withCachedData(loader, ttlMillis, ttlMillis);
+        }
+        
+        /**
+         * Use data loaded at most once per TTL, refreshed in the background.
+         * 
+         * @param maxStalenessMillis time past the TTL expired data is still served while it is refreshed
+         */
+        public Builder withCachedData(Supplier<Map<String, Object>> loader, long ttlMillis, long maxStalenessMillis) {
+            this.dynamicDataSupplier = new InertiaCachedSharedData(loader, ttlMillis, maxStalenessMillis);
+            return this;
+        }
+        
         public Builder withContextualData(Function<Object, Map<String, Object>> function) {
             this.contextualDataFunction = function;
             return this;
@@ -161,11 +236,30 @@ public class InertiaSharedData {
             return this;
         }
         
+        /**
+         * Whether the condition and data are evaluated at most once per request (the default),
+         * disable for data that must be evaluated again on every render.
+         */
+        public Builder memoize(boolean memoize) {
+            this.memoize = memoize;
+            return this;
+        }
+        
         public InertiaSharedData build() {
-            return new InertiaSharedData(staticData, dynamicDataSupplier, contextualDataFunction, actionFilter, conditionalSupplier);
+            return new InertiaSharedData(staticData, dynamicDataSupplier, contextualDataFunction, actionFilter, conditionalSupplier, memoize);
         }
     }
     
+    /**
+     * Condition and data of a shared data entry evaluated during the current request.
+     */
+    public static final class Evaluation {
+        private Boolean condition;
+        private boolean dataEvaluated;
+        private Object controllerContext;
+        private Map<String, Object> data;
+    }
+    
     public static Builder builder() {
         return new Builder();
     }
@@ -0,0 +1,218 @@
+package com.gurtus.inertia.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Root template pre-rendered into static byte segments around the per-page values
+ * (page JSON, SSR head and SSR body), so an HTML response is assembled by copying bytes
+ * instead of rendering the template.
+ * <p>
+ * The shell is parsed from the template rendered with sentinel values. Sentinels contain an
+ * {@code &}, so it can tell whether the template outputs a value raw or HTML-escaped.
+ */
+public final class InertiaTemplateShell {
+
+    /**
+     * Per-page values spliced into the shell.
+     */
+    public enum Slot {
+        PAGE_JSON, SSR_HEAD, SSR_BODY
+    }
+
+    private static final byte[] AMP = "&amp;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] QUOT = "&quot;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] APOS = "&#39;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LT = "&lt;".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] GT = "&gt;".getBytes(StandardCharsets.US_ASCII);
+
+    // segments[i] is followed by slots[i], the last segment ends the document
+    private final byte[][] segments;
+    private final Slot[] slots;
+    private final boolean[] escaped;
+    private final int staticLength;
+
+    private InertiaTemplateShell(List<byte[]> segments, List<Slot> slots, List<Boolean> escaped) {
+        this.segments = segments.toArray(new byte[0][]);
+        this.slots = slots.toArray(new Slot[0]);
+        this.escaped = new boolean[escaped.size()];
+        int length = 0;
+        for (int i = 0; i < this.escaped.length; i++) {
+            this.escaped[i] = escaped.get(i);
+        }
+        for (byte[] segment : this.segments) {
+            length += segment.length;
+        }
+        this.staticLength = length;
+    }
+
+    /**
+     * Create the sentinel marking a slot in the rendered template.
+     *
+     * @param nonce random value making the sentinel unique
+     */
+    public static String sentinel(Slot slot, String nonce) {
+        return "@@inertia:" + slot.name() + "&" + nonce + "@@";
+    }
+
+    /**
+     * Parse the output of the template rendered with the sentinels of the given nonce.
+     */
+    public static InertiaTemplateShell parse(String html, String nonce) {
+        List<byte[]> segments = new ArrayList<>();
+        List<Slot> slots = new ArrayList<>();
+        List<Boolean> escaped = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            // Find the next raw or escaped sentinel of any slot
+            int next = -1;
+            int length = 0;
+            Slot nextSlot = null;
+            boolean nextEscaped = false;
+            for (Slot slot : Slot.values()) {
+                String raw = sentinel(slot, nonce);
+                String escapedSentinel = raw.replace("&", "&amp;");
+                int rawIndex = html.indexOf(raw, position);
+                if (rawIndex >= 0 && (next < 0 || rawIndex < next)) {
+                    next = rawIndex;
+                    length = raw.length();
+                    nextSlot = slot;
+                    nextEscaped = false;
+                }
+                int escapedIndex = html.indexOf(escapedSentinel, position);
+                if (escapedIndex >= 0 && (next < 0 || escapedIndex < next)) {
+                    next = escapedIndex;
+                    length = escapedSentinel.length();
+                    nextSlot = slot;
+                    nextEscaped = true;
+                }
+            }
+
+            if (next < 0) {
+                segments.add(html.substring(position).getBytes(StandardCharsets.UTF_8));
+                return new InertiaTemplateShell(segments, slots, escaped);
+            }
+
+            segments.add(html.substring(position, next).getBytes(StandardCharsets.UTF_8));
+            slots.add(nextSlot);
+            escaped.add(nextEscaped);
+            position = next + length;
+        }
+    }
+
+    /**
+     * Assemble the HTML of a page.
+     *
+     * @param ssrHead SSR head, null when rendered client-side
+     * @param ssrBody SSR body, null when rendered client-side
+     */
+    public byte[] render(byte[] pageJson, String ssrHead, String ssrBody) {
+        byte[] head = ssrHead != null ? ssrHead.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        byte[] body = ssrBody != null ? ssrBody.getBytes(StandardCharsets.UTF_8) : new byte[0];
+
+        // Escaping only grows the output, start with room for the unescaped values
+        int length = staticLength;
+        for (Slot slot : slots) {
+            length += slot == Slot.PAGE_JSON ? pageJson.length : slot == Slot.SSR_HEAD ? head.length : body.length;
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream(length);
+        try {
+            write(output, pageJson, head, body);
+        } catch (IOException e) {
+            // Not thrown by ByteArrayOutputStream
+            throw new IllegalStateException(e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Write the HTML of a page to the given stream.
+     */
+    public void write(OutputStream output, byte[] pageJson, byte[] ssrHead, byte[] ssrBody) throws IOException {
+        write(output, pageJson, ssrHead, ssrBody, 0);
+    }
+
+    /**
+     * Write the HTML of a page to the given stream, skipping the start of the first segment
+     * that has already been sent.
+     *
+     * @param skip number of bytes of the first segment already written
+     */
+    public void write(OutputStream output, byte[] pageJson, byte[] ssrHead, byte[] ssrBody, int skip) throws IOException {
+        for (int i = 0; i < slots.length; i++) {
+            if (i == 0) {
+                output.write(segments[0], skip, segments[0].length - skip);
+            } else {
+                output.write(segments[i]);
+            }
+            byte[] value = slots[i] == Slot.PAGE_JSON ? pageJson : slots[i] == Slot.SSR_HEAD ? ssrHead : ssrBody;
+            if (escaped[i]) {
+                writeEscaped(output, value);
+            } else {
+                output.write(value);
+            }
+        }
+        int last = slots.length;
+        output.write(segments[last], last == 0 ? skip : 0, segments[last].length - (last == 0 ? skip : 0));
+    }
+
+    /**
+     * Get the static segments, the first one precedes the first slot and the last one ends the document.
+     */
+    public byte[][] getSegments() {
+        return segments;
+    }
+
+    /**
+     * Get the slot following the static segment with the same index.
+     */
+    public Slot getSlot(int index) {
+        return slots[index];
+    }
+
+    /**
+     * Check if the slot with the given index is output HTML-escaped.
+     */
+    public boolean isEscaped(int index) {
+        return escaped[index];
+    }
+
+    /**
+     * Escape UTF-8 bytes the same way as Qute escapes HTML. All escaped characters are ASCII,
+     * so multi-byte sequences are copied unchanged.
+     */
+    static void writeEscaped(OutputStream output, byte[] value) throws IOException {
+        int start = 0;
+        for (int i = 0; i < value.length; i++) {
+            byte[] replacement;
+            switch (value[i]) {
+                case '&':
+                    replacement = AMP;
+                    break;
+                case '"':
+                    replacement = QUOT;
+                    break;
+                case '\'':
+                    replacement = APOS;
+                    break;
+                case '<':
+                    replacement = LT;
+                    break;
+                case '>':
+                    replacement = GT;
+                    break;
+                default:
+                    continue;
+            }
+            output.write(value, start, i - start);
+            output.write(replacement);
+            start = i + 1;
+        }
+        output.write(value, start, value.length - start);
+    }
+}
@@ -0,0 +1,255 @@
+package com.gurtus.inertia.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateNode;
+import io.quarkus.qute.UserTagSectionHelper;
+import io.quarkus.runtime.LaunchMode;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Pre-rendered shells of the root template, one per asset version and render mode (client-side or SSR).
+ * <p>
+ * A shell is shared by all requests, so it is only used if every expression of the template is rooted in
+ * the page JSON, the SSR head or body, or {@code isDevelopment}, which is constant outside development mode.
+ * Calls of {@code inertiaHelper.viteTags} with literal arguments are constant for an asset version, and
+ * {@code {#if isDevelopment}} blocks are never rendered by a shell, so their content is not checked.
+ * Templates printing other page data (e.g. {@code {page.component}}) or request-scoped values
+ * (e.g. {@code {inject:csrf.token}}) keep being rendered by Qute. Assembling the shell must also reproduce
+ * the template output for sample values. Disabled in development mode.
+ */
+@ApplicationScoped
+public class InertiaTemplateShells {
+
+    // Values checking the shell, containing every character escaped by Qute
+    private static final String SAMPLE_PAGE_JSON = "{\"component\":\"<Sample & 'Shell'>\"}";
+    private static final String SAMPLE_SSR_HEAD = "<title>Sample & 'Shell'</title>";
+    private static final String SAMPLE_SSR_BODY = "<div data-sample=\"&\">Sample</div>";
+
+    // Template data replaced by the shell slots, or the same for every request
+    private static final Set<String> SHELL_DATA = Set.of("pageJson", "ssrHead", "ssrBody", "isDevelopment");
+
+    // Helper methods returning the same value for every request when called with literals
+    private static final Set<String> CONSTANT_HELPER_METHODS = Set.of("viteTags");
+
+    @Inject
+    InertiaConfig config;
+
+    @Inject
+    Engine quteEngine;
+
+    @Inject
+    InertiaHelper inertiaHelper;
+
+    private final Map<String, Optional<InertiaTemplateShell>> shells = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> prefixes = new ConcurrentHashMap<>();
+
+    /**
+     * Get the shell of the current asset version.
+     *
+     * @param ssr whether the page was rendered server-side
+     * @return null if pre-rendering is disabled or not supported by the root template
+     */
+    public InertiaTemplateShell get(boolean ssr) {
+        if (!(config.prerenderTemplate() || config.streamHtml()) || LaunchMode.current() == LaunchMode.DEVELOPMENT) {
+            return null;
+        }
+
+        String key = config.version().orElse("1") + '|' + ssr;
+        return shells.computeIfAbsent(key, k -> Optional.ofNullable(build(ssr))).orElse(null);
+    }
+
+    /**
+     * Get the start of the root template that can be sent before the page is rendered,
+     * i.e. the bytes preceding the page data in both the client-side and (if enabled) the SSR shell.
+     *
+     * @return null if streaming is disabled or not supported by the root template
+     */
+    public byte[] getStreamingPrefix() {
+        if (!config.streamHtml()) {
+            return null;
+        }
+
+        InertiaTemplateShell clientShell = get(false);
+        if (clientShell == null) {
+            return null;
+        }
+        byte[] prefix = clientShell.getSegments()[0];
+        if (!config.ssrEnabled()) {
+            return prefix;
+        }
+
+        InertiaTemplateShell ssrShell = get(true);
+        if (ssrShell == null) {
+            return null;
+        }
+        return prefixes.computeIfAbsent(config.version().orElse("1"),
+                k -> commonPrefix(prefix, ssrShell.getSegments()[0]));
+    }
+
+    private static byte[] commonPrefix(byte[] a, byte[] b) {
+        int length = Arrays.mismatch(a, b);
+        return length < 0 ? a : Arrays.copyOf(a, length);
+    }
+
+    /**
+     * Drop the pre-rendered shells, they are rendered again on the next request.
+     */
+    public void clear() {
+        shells.clear();
+        prefixes.clear();
+    }
+
+    private InertiaTemplateShell build(boolean ssr) {
+        Template template = quteEngine.getTemplate(config.rootTemplate());
+        if (template == null || !isShellTemplate(template)) {
+            return null;
+        }
+
+        String previousHead = inertiaHelper.getInertiaSSRHead();
+        try {
+            String nonce = Long.toHexString(ThreadLocalRandom.current().nextLong());
+            String html = render(template, ssr,
+                    InertiaTemplateShell.sentinel(InertiaTemplateShell.Slot.PAGE_JSON, nonce),
+                    InertiaTemplateShell.sentinel(InertiaTemplateShell.Slot.SSR_HEAD, nonce),
+                    InertiaTemplateShell.sentinel(InertiaTemplateShell.Slot.SSR_BODY, nonce),
+                    "SentinelComponent");
+            InertiaTemplateShell shell = InertiaTemplateShell.parse(html, nonce);
+
+            // The shell must reproduce the template for other values, including values to escape
+            String expected = render(template, ssr, SAMPLE_PAGE_JSON, SAMPLE_SSR_HEAD, SAMPLE_SSR_BODY, "SampleComponent");
+            byte[] assembled = shell.render(SAMPLE_PAGE_JSON.getBytes(StandardCharsets.UTF_8),
+                    ssr ? SAMPLE_SSR_HEAD : null, ssr ? SAMPLE_SSR_BODY : null);
+            return Arrays.equals(assembled, expected.getBytes(StandardCharsets.UTF_8)) ? shell : null;
+        } catch (RuntimeException e) {
+            // Keep rendering the template with Qute
+            return null;
+        } finally {
+            inertiaHelper.setInertiaSSRHead(previousHead.isEmpty() ? null : previousHead);
+        }
+    }
+
+    /**
+     * Check that the output of the template depends on nothing a shell would bake in for all requests.
+     */
+    static boolean isShellTemplate(Template template) {
+        return isShellNode(template.getRootNode());
+    }
+
+    private static boolean isShellNode(TemplateNode node) {
+        if (node.isExpression()) {
+            return node.getExpressions().stream().allMatch(InertiaTemplateShells::isShellExpression);
+        }
+        if (!node.isSection()) {
+            return true;
+        }
+
+        // The expressions of included templates and user tags are not known here
+        SectionNode section = node.asSection();
+        if ("include".equals(section.getName()) || section.getHelper() instanceof UserTagSectionHelper) {
+            return false;
+        }
+
+        List<SectionBlock> blocks = section.getBlocks();
+        for (int i = 0; i < blocks.size(); i++) {
+            SectionBlock block = blocks.get(i);
+            if (i == 0 && isDevelopmentOnly(section, block)) {
+                continue;
+            }
+            for (Expression expression : block.expressions.values()) {
+                if (!isShellExpression(expression)) {
+                    return false;
+                }
+            }
+            for (TemplateNode child : block.nodes) {
+                if (!isShellNode(child)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check for the main block of {@code {#if isDevelopment}}, only rendered in development mode where
+     * shells are disabled.
+     */
+    private static boolean isDevelopmentOnly(SectionNode section, SectionBlock block) {
+        return "if".equals(section.getName())
+                && block.parameters.size() == 1
+                && "isDevelopment".equals(block.parameters.values().iterator().next());
+    }
+
+    private static boolean isShellExpression(Expression expression) {
+        if (expression.isLiteral()) {
+            return true;
+        }
+        // Namespaces resolve beans and other data per request, e.g. {inject:csrf.token}
+        List<Expression.Part> parts = expression.getParts();
+        if (expression.hasNamespace() || parts.isEmpty()) {
+            return false;
+        }
+        if (!SHELL_DATA.contains(parts.get(0).getName()) && !isConstantHelperCall(parts)) {
+            return false;
+        }
+
+        for (Expression.Part part : parts) {
+            if (part.isVirtualMethod()) {
+                for (Expression parameter : part.asVirtualMethod().getParameters()) {
+                    if (!isShellExpression(parameter)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check for e.g. {@code {inertiaHelper.viteTags('frontend/main.tsx').raw}}, the same for all requests
+     * since the Vite manifest is fixed for an asset version.
+     */
+    private static boolean isConstantHelperCall(List<Expression.Part> parts) {
+        if (parts.size() < 2 || !"inertiaHelper".equals(parts.get(0).getName())) {
+            return false;
+        }
+        Expression.Part method = parts.get(1);
+        return method.isVirtualMethod()
+                && CONSTANT_HELPER_METHODS.contains(method.getName())
+                && method.asVirtualMethod().getParameters().stream().allMatch(Expression::isLiteral);
+    }
+
+    private String render(Template template, boolean ssr, String pageJson, String ssrHead, String ssrBody,
+            String component) {
+        InertiaPage page = new InertiaPage();
+        page.setComponent(component);
+        page.setUrl("/" + component);
+        page.setVersion(config.version().orElse("1"));
+
+        var instance = template.data("page", page)
+                .data("pageJson", pageJson)
+                .data("isDevelopment", false)
+                .data("inertiaHelper", inertiaHelper);
+        if (ssr) {
+            inertiaHelper.setInertiaSSRHead(ssrHead);
+            instance.data("ssrBody", ssrBody)
+                    .data("ssrHead", ssrHead);
+        } else {
+            inertiaHelper.setInertiaSSRHead(null);
+        }
+        return instance.render();
+    }
+}
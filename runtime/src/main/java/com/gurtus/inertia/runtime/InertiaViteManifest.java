@@ -0,0 +1,148 @@
+package com.gurtus.inertia.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Chunk graph of the Vite build, read from the Vite manifest at build time.
+ * Every chunk knows the stylesheets and the chunks it imports, directly or transitively,
+ * so the tags loading a chunk are computed once instead of walking the manifest per request.
+ */
+@ApplicationScoped
+public class InertiaViteManifest {
+
+    private volatile Map<String, Chunk> chunks = Collections.emptyMap();
+    private volatile Map<String, Chunk> components = Collections.emptyMap();
+
+    /**
+     * Register the chunks of the manifest, keyed by their source path.
+     * Called by the recorder at startup.
+     *
+     * @param files URL of the file of each chunk
+     * @param stylesheets URLs of the stylesheets of each chunk and the chunks it imports
+     * @param imports URLs of the chunks each chunk imports, directly or transitively
+     * @param components source path of the chunk of each page component
+     */
+    public void register(Map<String, String> files, Map<String, List<String>> stylesheets,
+            Map<String, List<String>> imports, Map<String, String> components) {
+        Map<String, Chunk> registered = new HashMap<>();
+        for (Map.Entry<String, String> entry : files.entrySet()) {
+            String key = entry.getKey();
+            registered.put(key, new Chunk(entry.getValue(),
+                    stylesheets.getOrDefault(key, List.of()), imports.getOrDefault(key, List.of())));
+        }
+
+        Map<String, Chunk> registeredComponents = new HashMap<>();
+        for (Map.Entry<String, String> entry : components.entrySet()) {
+            Chunk chunk = registered.get(entry.getValue());
+            if (chunk != null) {
+                registeredComponents.put(entry.getKey(), chunk);
+            }
+        }
+
+        this.chunks = Collections.unmodifiableMap(registered);
+        this.components = Collections.unmodifiableMap(registeredComponents);
+    }
+
+    /**
+     * Get the chunk built from the given source path, e.g. {@code frontend/main.tsx}.
+     *
+     * @return null if the chunk is not in the manifest
+     */
+    public Chunk getChunk(String source) {
+        return chunks.get(source);
+    }
+
+    /**
+     * Get the chunk of the given page component, e.g. {@code Users/Index}.
+     *
+     * @return null if the component is not in the manifest
+     */
+    public Chunk getComponent(String component) {
+        return component != null ? components.get(component) : null;
+    }
+
+    /**
+     * A chunk of the Vite build with its precomputed tags.
+     */
+    public static final class Chunk {
+
+        private final String file;
+        private final List<String> stylesheets;
+        private final List<String> imports;
+        private final String scriptTags;
+        private final String preloadTags;
+        private final String preloadLinks;
+
+        Chunk(String file, List<String> stylesheets, List<String> imports) {
+            this.file = file;
+            this.stylesheets = List.copyOf(stylesheets);
+            this.imports = List.copyOf(imports);
+
+            StringBuilder links = new StringBuilder();
+            for (String stylesheet : this.stylesheets) {
+                links.append("<link rel=\"stylesheet\" href=\"").append(stylesheet).append("\">\n");
+            }
+            for (String imported : this.imports) {
+                links.append("<link rel=\"modulepreload\" href=\"").append(imported).append("\">\n");
+            }
+            this.scriptTags = links + "<script type=\"module\" src=\"" + file + "\"></script>";
+            this.preloadTags = links + "<link rel=\"modulepreload\" href=\"" + file + "\">";
+
+            StringBuilder header = new StringBuilder();
+            for (String stylesheet : this.stylesheets) {
+                header.append('<').append(stylesheet).append(">; rel=preload; as=style, ");
+            }
+            for (String imported : this.imports) {
+                header.append('<').append(imported).append(">; rel=modulepreload, ");
+            }
+            this.preloadLinks = header.append('<').append(file).append(">; rel=modulepreload").toString();
+        }
+
+        /**
+         * URL of the JavaScript file of the chunk.
+         */
+        public String getFile() {
+            return file;
+        }
+
+        /**
+         * URLs of the stylesheets of the chunk and the chunks it imports.
+         */
+        public List<String> getStylesheets() {
+            return stylesheets;
+        }
+
+        /**
+         * URLs of the chunks imported by the chunk, directly or transitively.
+         */
+        public List<String> getImports() {
+            return imports;
+        }
+
+        /**
+         * Tags loading the chunk as an entry point: stylesheets, module preloads of the imports and the script.
+         */
+        public String getScriptTags() {
+            return scriptTags;
+        }
+
+        /**
+         * Tags preloading the chunk without running it, e.g. for a page component imported by the entry point.
+         */
+        public String getPreloadTags() {
+            return preloadTags;
+        }
+
+        /**
+         * Value of a {@code Link} header preloading the chunk, its stylesheets and its imports.
+         */
+        public String getPreloadLinks() {
+            return preloadLinks;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.gurtus.inertia.runtime.props;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A prop whose value is produced asynchronously, e.g. by Hibernate Reactive or a reactive REST client.
+ * Evaluating the prop returns the {@link Uni} without subscribing to it,
+ * the renderer resolves it together with the other asynchronous props of the page.
+ * <p>
+ * Other prop types may return a {@link Uni} or {@link CompletionStage} from their evaluator as well,
+ * e.g. a deferred prop loading its value reactively.
+ */
+public class AsyncProp implements BaseProp {
+
+    private final Function<Object, Uni<?>> evaluator;
+
+    public AsyncProp(Function<Object, Uni<?>> evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    public AsyncProp(Supplier<Uni<?>> supplier) {
+        this.evaluator = context -> supplier.get();
+    }
+
+    /**
+     * Create an async prop from a supplier of a {@link CompletionStage}.
+     * The stage is only requested once the prop is resolved.
+     */
+    public static AsyncProp fromCompletionStage(Supplier<? extends CompletionStage<?>> supplier) {
+        return new AsyncProp(context -> Uni.createFrom().completionStage(supplier));
+    }
+
+    @Override
+    public Object evaluate(Object context) {
+        return evaluator.apply(context);
+    }
+}